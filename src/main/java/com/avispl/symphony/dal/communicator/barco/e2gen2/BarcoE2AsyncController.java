@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.barco.e2gen2;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+
+/**
+ * Non-blocking control surface of the Barco E2, alongside the synchronous {@link com.avispl.symphony.api.dal.control.Controller}.
+ * Each property gets its own future, completed when the device has applied the change or exceptionally with the failure.
+ *
+ * @author Duy Nguyen
+ * @since 1.0.0
+ */
+public interface BarcoE2AsyncController {
+
+	/**
+	 * Control a property without blocking the caller
+	 *
+	 * @param controllableProperty control property that will be controlled
+	 * @return future completed when the control is done
+	 */
+	CompletableFuture<Void> controlPropertyAsync(ControllableProperty controllableProperty);
+
+	/**
+	 * Control properties without blocking the caller
+	 *
+	 * @param controllableProperties list of control properties that will be controlled
+	 * @return one future per property, in the order of the list
+	 */
+	List<CompletableFuture<Void>> controlPropertiesAsync(List<ControllableProperty> controllableProperties);
+}
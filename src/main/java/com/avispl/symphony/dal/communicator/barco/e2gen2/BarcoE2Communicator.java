@@ -3,23 +3,51 @@
  */
 package com.avispl.symphony.dal.communicator.barco.e2gen2;
 
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.NoRouteToHostException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.stream.Collectors;
-
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.DataFormatException;
+import java.util.zip.ZipException;
+
+import org.apache.http.conn.ConnectTimeoutException;
+import org.icmp4j.IcmpPingResponse;
+import org.icmp4j.IcmpPingUtil;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.util.CollectionUtils;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.NullNode;
 
 import com.avispl.symphony.api.dal.control.Controller;
@@ -36,15 +64,32 @@ import com.avispl.symphony.dal.communicator.barco.e2gen2.dto.Dimension;
 import com.avispl.symphony.dal.communicator.barco.e2gen2.dto.LayerDTO;
 import com.avispl.symphony.dal.communicator.barco.e2gen2.dto.LayerRequestDTO;
 import com.avispl.symphony.dal.communicator.barco.e2gen2.dto.PowerStatusDTO;
-import com.avispl.symphony.dal.communicator.barco.e2gen2.dto.RpcRequest;
 import com.avispl.symphony.dal.communicator.barco.e2gen2.dto.RpcResponse;
 import com.avispl.symphony.dal.communicator.barco.e2gen2.dto.AuxDestination;
 import com.avispl.symphony.dal.communicator.barco.e2gen2.dto.SuperAuxDestination;
 import com.avispl.symphony.dal.communicator.barco.e2gen2.dto.SuperDestination;
 import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.BarcoE2Constant;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.CircuitBreaker;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.CircuitBreakerState;
 import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.BarcoE2ControllingMetric;
 import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.BarcoE2MonitoringMetric;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.JsonCodec;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.JsonCodecMode;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.KeyedCommandScheduler;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.LayerGeometryTable;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.LayerLayout;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.PayloadByteCounter;
 import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.PowerStatus;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.PresetCatalogue;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.PresetRecall;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.PresetRecallState;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.ReachabilityProbeMode;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.ResponseCache;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.RoutingMatrix;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.RoutingNoOpCheck;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.RpcRequestEncoder;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.RpcRequestEncoder.EncodedRequest;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.SourceTable;
 
 /**
  * An implementation of RestCommunicator to provide communication and interaction with Barco E2 Gen2 devices.
@@ -63,15 +108,17 @@ import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.PowerStatus;
  * <li> - Preset Feedback</li>
  * <li> - Connected Units</li>
  * <li> - Power Status</li>
+ * <li> - Reachability (round-trip time)</li>
  * </ul>
  * Controlling:
  * - Routing Control
  * - Preset Control
+ * Controls are also available without blocking through {@link BarcoE2AsyncController}
  *
  * @author Duy Nguyen, Ivan
  * @since 1.0.0
  */
-public class BarcoE2Communicator extends RestCommunicator implements Monitorable, Controller {
+public class BarcoE2Communicator extends RestCommunicator implements Monitorable, Controller, BarcoE2AsyncController {
 
 	/**
 	 * Routing control: class to store properties of source
@@ -81,15 +128,111 @@ public class BarcoE2Communicator extends RestCommunicator implements Monitorable
 		int numberOfSource = 0;
 	}
 
+	/**
+	 * Poll deadline: one phase of the poll, skipped when the deadline has passed
+	 */
+	@FunctionalInterface
+	interface PollPhase {
+		void run(Map<String, String> stats, List<AdvancedControllableProperty> controls) throws Exception;
+	}
+
+	/**
+	 * Last known good: statistics and controls of the last successful run of a poll phase
+	 */
+	class PhaseSnapshot {
+		// never modified, a control that writes through replaces the whole snapshot
+		final Map<String, String> statistics;
+		final List<AdvancedControllableProperty> controls;
+		final long timestamp;
+
+		PhaseSnapshot(Map<String, String> statistics, List<AdvancedControllableProperty> controls) {
+			this(statistics, controls, System.currentTimeMillis());
+		}
+
+		PhaseSnapshot(Map<String, String> statistics, List<AdvancedControllableProperty> controls, long timestamp) {
+			this.statistics = statistics;
+			this.controls = controls;
+			this.timestamp = timestamp;
+		}
+	}
+
 	private String lastPresetName = BarcoE2Constant.DOUBLE_QUOTES;
-	private final ObjectMapper objectMapper = new ObjectMapper();
+	// Readers and writer of the JSON-RPC messages, built again on init for the codec of the adapter properties
+	private volatile JsonCodec codec = new JsonCodec(JsonCodecMode.DEFAULT);
+	// Request bodies, constant requests are encoded once
+	private volatile RpcRequestEncoder requestEncoder = new RpcRequestEncoder(codec);
 	private List<Integer> listSuperDestId = new ArrayList<>();
 	private List<Integer> listSuperAuxId = new ArrayList<>();
-	private Map<Integer, String> sourceIdToNameMap = new HashMap<>();
+	private SourceTable sourceTable = SourceTable.EMPTY;
 	private boolean isFailRetrieveMetaData = false;
 
+	// Single-flight poll: at most one poll runs at a time, concurrent callers join it or get the last snapshot
+	private final Object pollMonitor = new Object();
+	private CompletableFuture<List<Statistics>> inFlightPoll;
+	// never modified once published, a control that writes through publishes a patched copy
+	private final AtomicReference<List<Statistics>> lastCompletedStatistics = new AtomicReference<>();
+	// Time (System.currentTimeMillis) a route was last written through to lastCompletedStatistics, 0 if none
+	private volatile long lastWriteThroughTime = 0;
+
+	// Fail fast while the device is unreachable
+	private final CircuitBreaker circuitBreaker = new CircuitBreaker(BarcoE2Constant.DEFAULT_CIRCUIT_BREAKER_RETRY_INTERVAL);
+	// Round-trip times of the last reachability probes, oldest first
+	private final ArrayDeque<Long> roundTripTimeHistory = new ArrayDeque<>();
+	// Deadline (System.nanoTime) of the poll running on the current thread
+	private final ThreadLocal<Long> pollDeadlineNanos = new ThreadLocal<>();
+	// Runs the RPC calls that have to finish within the poll deadline
+	private ExecutorService rpcExecutor;
+	// Last successful values of each poll phase, served as stale when a refresh fails
+	private final Map<String, PhaseSnapshot> lastKnownGood = new ConcurrentHashMap<>();
+	private final AtomicBoolean isRevalidationScheduled = new AtomicBoolean(false);
+	private ScheduledExecutorService revalidationExecutor;
+	// Presets of the device by id and name, shared by preset feedback and activation
+	private final PresetCatalogue presetCatalogue = new PresetCatalogue(BarcoE2Constant.DEFAULT_PRESET_CATALOGUE_TTL);
+	// Runs preset recalls off the control thread
+	private ExecutorService controlExecutor;
+	private volatile PresetRecall pendingRecall;
+	// Runs routing controls FIFO per destination and concurrently across destinations
+	private KeyedCommandScheduler commandScheduler;
+	// Command keys of the destinations read by each option of the refresh dropdown, a super destination reads its members
+	private volatile Map<String, Set<String>> refreshCommandKeysByOption = Collections.emptyMap();
+	// Source on program of each single-source destination at the last poll, by destination key
+	private final Map<String, String> routedSourceByDestination = new ConcurrentHashMap<>();
+	// Sizes of sources and screen destinations, with the layer geometry of every pair
+	private final LayerGeometryTable layerGeometryTable = new LayerGeometryTable();
+	// Layer structure of each screen destination by destination id
+	private final Map<Integer, LayerLayout> layerLayoutByDestId = new ConcurrentHashMap<>();
+	// Routing state of the whole frame, updated by the polls and the successful routes
+	private final RoutingMatrix routingMatrix = new RoutingMatrix();
+	// Last raw response of every request, unchanged responses are not parsed again
+	private final ResponseCache responseCache = new ResponseCache();
+	// Payload bytes of the requests and responses per method since the last poll, the responses counted once decompressed
+	private final PayloadByteCounter payloadByteCounter = new PayloadByteCounter();
+	// Set when a compressed response could not be decoded, the next requests ask for uncompressed responses
+	private final AtomicBoolean compressedResponseFailed = new AtomicBoolean(false);
+	// Tally statistics built at the routing matrix version tallyStatsVersion, guarded by tallyMonitor
+	private final Object tallyMonitor = new Object();
+	private Map<String, String> tallyStats = Collections.emptyMap();
+	private long tallyStatsVersion = -1;
+	private SourceTable tallyStatsSources;
+
 	private String listSuperScreenDestId;
 	private String listSuperAuxDestId;
+	private int circuitBreakerRetryInterval = BarcoE2Constant.DEFAULT_CIRCUIT_BREAKER_RETRY_INTERVAL;
+	private String reachabilityProbe = ReachabilityProbeMode.TCP.name();
+	private int reachabilityProbeBudget = BarcoE2Constant.DEFAULT_REACHABILITY_PROBE_BUDGET;
+	private int pollDeadline = 0;
+	private int staleRevalidationDelay = BarcoE2Constant.DEFAULT_STALE_REVALIDATION_DELAY;
+	private int presetCatalogueTtl = BarcoE2Constant.DEFAULT_PRESET_CATALOGUE_TTL;
+	private int presetRecallTimeout = BarcoE2Constant.DEFAULT_PRESET_RECALL_TIMEOUT;
+	private int controlConcurrency = BarcoE2Constant.DEFAULT_CONTROL_CONCURRENCY;
+	private int routingCoalescingWindow = 0;
+	private String routingNoOpCheck = RoutingNoOpCheck.OFF.name();
+	private int routingReadBackDelay = 0;
+	private int routingFeedbackWindow = BarcoE2Constant.DEFAULT_ROUTING_FEEDBACK_WINDOW;
+	private boolean tallyStatistics = false;
+	private String jsonCodec = JsonCodecMode.DEFAULT.name();
+	private boolean compressedResponses = true;
+	private boolean payloadBytesStatistics = false;
 
 	/**
 	 * Retrieves {@code {@link #listSuperScreenDestId}}
@@ -128,807 +271,2344 @@ public class BarcoE2Communicator extends RestCommunicator implements Monitorable
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * BarcoE2Communicator doesn't require authentication
+	 * Retrieves {@code {@link #circuitBreakerRetryInterval}}
+	 *
+	 * @return value of {@link #circuitBreakerRetryInterval}
 	 */
-	@Override
-	protected void authenticate() {
-		// BarcoE2Communicator doesn't require authentication
+	public int getCircuitBreakerRetryInterval() {
+		return circuitBreakerRetryInterval;
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * Properties that need to be controlled:
-	 * - Routing Control
-	 * - Preset Control
+	 * Sets {@code circuitBreakerRetryInterval}
 	 *
-	 * @param controllableProperty control property that will be controlled
-	 * @throws Exception when fail to control property
+	 * @param circuitBreakerRetryInterval the {@code int} field, time in milliseconds before an unreachable device is probed again
 	 */
-	@Override
-	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-		String property = controllableProperty.getProperty();
-		String value = String.valueOf(controllableProperty.getValue());
-		String propertyMethod = property.substring(0, property.indexOf(BarcoE2Constant.HASH_TAG));
-		String propertyValue = property.substring(property.indexOf(BarcoE2Constant.HASH_TAG) + 1);
-		if (propertyMethod.contains(BarcoE2ControllingMetric.SUPER_SCREEN_DESTINATION.getName() + BarcoE2Constant.COLON) || propertyMethod.contains(
-				BarcoE2ControllingMetric.SUPER_AUX_DESTINATION.getName() + BarcoE2Constant.COLON)) {
-			String[] splitDestString = propertyMethod.split(BarcoE2Constant.COLON);
-			String firstItem = splitDestString[0].trim();
-			if (firstItem.equals(BarcoE2ControllingMetric.SUPER_SCREEN_DESTINATION.getName()) || firstItem.equals(BarcoE2ControllingMetric.SUPER_AUX_DESTINATION.getName())) {
-				propertyMethod = splitDestString[0];
-			}
-		}
-		if (logger.isDebugEnabled()) {
-			logger.debug(String.format("Controlling device with property: %s and value: %s", property, value));
-		}
-		BarcoE2ControllingMetric barcoE2ControllingMetric = getBarcoE2ControllingMetric(property, propertyMethod);
-		switch (barcoE2ControllingMetric) {
-			case PRESETS_PRESET:
-				lastPresetName = value;
-				break;
-			case PRESETS_PRESET_ACTIVATE:
-				controlActivatePreset();
-				break;
-			case SCREEN_DESTINATIONS:
-				controlAssignSourceToScreenDest(value, propertyValue);
-				break;
-			case SUPER_SCREEN_DESTINATION:
-				controlAssignSourceToSuperDest(value, propertyValue);
-				break;
-			case AUX_DESTINATIONS:
-				controlAssignSourceToAuxDest(value, propertyValue);
-				break;
-			case SUPER_AUX_DESTINATION:
-				controlAssignSourceToSuperAuxDest(value, propertyValue);
-				break;
-			default:
-				if (logger.isWarnEnabled()) {
-					logger.warn(String.format("Operation %s with value %s is not supported.", property, value));
-				}
-				throw new IllegalArgumentException(String.format("Operation %s with value %s is not supported.", property, value));
-		}
+	public void setCircuitBreakerRetryInterval(int circuitBreakerRetryInterval) {
+		this.circuitBreakerRetryInterval = circuitBreakerRetryInterval;
+		this.circuitBreaker.setRetryInterval(circuitBreakerRetryInterval);
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * Control properties
+	 * Retrieves {@code {@link #reachabilityProbe}}
 	 *
-	 * @param list list of control properties that will be controlled
-	 * @throws Exception when fail to control properties
+	 * @return value of {@link #reachabilityProbe}
 	 */
-	@Override
-	public void controlProperties(List<ControllableProperty> list) throws Exception {
-		if (CollectionUtils.isEmpty(list)) {
-			throw new IllegalArgumentException("Controllable properties cannot be null or empty");
-		}
-		for (ControllableProperty controllableProperty : list) {
-			controlProperty(controllableProperty);
-		}
+	public String getReachabilityProbe() {
+		return reachabilityProbe;
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * This method is called by Symphony to get the list of statistics to be displayed
+	 * Sets {@code reachabilityProbe}
 	 *
-	 * @return List<Statistics> This returns the list of statistics
-	 * @throws Exception Throw exception when fail to get info from device
+	 * @param reachabilityProbe the {@code java.lang.String} field, one of ICMP, TCP or NONE
 	 */
-	@Override
-	public List<Statistics> getMultipleStatistics() throws Exception {
-		if (logger.isDebugEnabled()) {
-			logger.debug(String.format("Getting statistics from the device at host %s with port %s", this.host, this.getPort()));
-		}
-		Map<String, String> statistics = new HashMap<>();
-		List<AdvancedControllableProperty> controls = new ArrayList<>();
-		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-		initializeData(statistics, controls);
-		extendedStatistics.setStatistics(statistics);
-		extendedStatistics.setControllableProperties(controls);
-		return Collections.singletonList(extendedStatistics);
+	public void setReachabilityProbe(String reachabilityProbe) {
+		this.reachabilityProbe = reachabilityProbe;
+	}
 
+	/**
+	 * Retrieves {@code {@link #reachabilityProbeBudget}}
+	 *
+	 * @return value of {@link #reachabilityProbeBudget}
+	 */
+	public int getReachabilityProbeBudget() {
+		return reachabilityProbeBudget;
 	}
 
 	/**
-	 * Prepare meta data for the device
+	 * Sets {@code reachabilityProbeBudget}
+	 *
+	 * @param reachabilityProbeBudget the {@code int} field, time in milliseconds the liveness check may take
 	 */
-	private void prepareDeviceMetaData() {
-		if (listSuperScreenDestId != null) {
-			listSuperDestId = handleListSuperId(true);
-		} else {
-			listSuperDestId = Collections.emptyList();
-		}
-		if (listSuperAuxDestId != null) {
-			listSuperAuxId = handleListSuperId(false);
-		} else {
-			listSuperAuxId = Collections.emptyList();
-		}
-		try {
-			sourceIdToNameMap = getSourceIdToSourceNameMap();
-			isFailRetrieveMetaData = false;
-		} catch (Exception e) {
-			logger.error("Fail to monitor and control routing part");
-			isFailRetrieveMetaData = true;
-		}
+	public void setReachabilityProbeBudget(int reachabilityProbeBudget) {
+		this.reachabilityProbeBudget = reachabilityProbeBudget;
 	}
 
 	/**
-	 * Call post request on the device to get RpcResponse DTO
+	 * Retrieves {@code {@link #pollDeadline}}
 	 *
-	 * @param method String name of the method
-	 * @param param Map of params
-	 * @return JsonNode returns the JsonNode of given object
-	 * @throws Exception Throw exception when fail to call post request, get data from device
+	 * @return value of {@link #pollDeadline}
 	 */
-	protected JsonNode requestByMethod(String method, Map<Object, Object> param) throws Exception {
-		RpcResponse rpcResponse;
-		rpcResponse = this.doPost(BarcoE2Constant.DOUBLE_QUOTES, rpcRequestBody(method, param), RpcResponse.class);
-		if (rpcResponse == null) {
-			throw new ResourceNotReachableException("doPost success but fail to get data from the device");
-		}
-		JsonNode response = rpcResponse.getResponse();
-		if (response != null && !NullNode.instance.equals(response) && !response.isEmpty()) {
-			return response;
-		}
-		// RETURN THE JsonNode of RpcResponse
-		return objectMapper.valueToTree(rpcResponse);
+	public int getPollDeadline() {
+		return pollDeadline;
 	}
 
 	/**
-	 * Initialize monitoring/controlling data
+	 * Sets {@code pollDeadline}
 	 *
-	 * @param statistics Map of statistics
-	 * @param controls List of AdvancedControllableProperty that need to be controlled
-	 * @throws Exception Throw exception when fail to get preset/routing monitoring and controlling properties
+	 * @param pollDeadline the {@code int} field, time budget in milliseconds of a whole poll, 0 means no deadline
 	 */
-	private void initializeData(Map<String, String> statistics, List<AdvancedControllableProperty> controls) throws Exception {
-		getDeviceInformation(statistics);
-		getPresetFeedBack(statistics, controls);
-		prepareDeviceMetaData();
-		if (!isFailRetrieveMetaData) {
-			getRoutingControl(true, statistics, controls);
-			getRoutingControl(false, statistics, controls);
-			getSuperRoutingControl(true, statistics, controls);
-			getSuperRoutingControl(false, statistics, controls);
-		}
+	public void setPollDeadline(int pollDeadline) {
+		this.pollDeadline = pollDeadline;
 	}
 
 	/**
-	 * Generate RpcRequest DTO
+	 * Retrieves {@code {@link #staleRevalidationDelay}}
 	 *
-	 * @param method Rpc method
-	 * @param params Map of parameters
-	 * @return This returns RpcRequest DTO
+	 * @return value of {@link #staleRevalidationDelay}
 	 */
-	private RpcRequest rpcRequestBody(String method, Map<Object, Object> params) {
-		RpcRequest rpcRequest = new RpcRequest();
-		rpcRequest.setMethod(method);
-		rpcRequest.setParams(params);
-		return rpcRequest;
+	public int getStaleRevalidationDelay() {
+		return staleRevalidationDelay;
 	}
 
 	/**
-	 * Map a JsonNode to DTO
+	 * Sets {@code staleRevalidationDelay}
 	 *
-	 * @param jsonNode input jsonNode that need to be converted
-	 * @param tClass Class that will be converted to
-	 * @return This returns the DTO of given Object.
+	 * @param staleRevalidationDelay the {@code int} field, time in milliseconds before stale values are refreshed in the background
 	 */
-	private <T> Object jsonNodeToDTO(JsonNode jsonNode, Class<T> tClass) throws JsonProcessingException {
-		return objectMapper.treeToValue(jsonNode, tClass);
+	public void setStaleRevalidationDelay(int staleRevalidationDelay) {
+		this.staleRevalidationDelay = staleRevalidationDelay;
 	}
 
 	/**
-	 * controlProperty: Assign source to Super Aux Destination
+	 * Retrieves {@code {@link #presetCatalogueTtl}}
 	 *
-	 * @param destName Destination name that will be assigned a new source to
-	 * @param sourceName name of the new source
-	 * @throws Exception when fail to change aux content
+	 * @return value of {@link #presetCatalogueTtl}
 	 */
-	private void controlAssignSourceToSuperAuxDest(String sourceName, String destName) throws Exception {
-		try {
-			changeAuxContent(destName, sourceName);
-		} catch (Exception e) {
-			if (e instanceof ResourceNotReachableException || e instanceof CommandFailureException) {
-				throw e;
-			}
-			throw new CommandFailureException(this.getAddress(), "super aux destination routing control", "Fail to assign source to super aux destination", e);
-		}
+	public int getPresetCatalogueTtl() {
+		return presetCatalogueTtl;
 	}
 
 	/**
-	 * controlProperty: Assign source to Aux Destination
+	 * Sets {@code presetCatalogueTtl}
 	 *
-	 * @param destName Destination name that will be assigned a new source to
-	 * @param sourceName name of the new source
-	 * @throws Exception when fail to change aux content
+	 * @param presetCatalogueTtl the {@code int} field, time in milliseconds the list of presets is cached
 	 */
-	private void controlAssignSourceToAuxDest(String sourceName, String destName) throws Exception {
-		try {
-			changeAuxContent(destName, sourceName);
-		} catch (Exception e) {
-			if (e instanceof ResourceNotReachableException || e instanceof CommandFailureException) {
-				throw e;
-			}
-			throw new CommandFailureException(this.getAddress(), "aux destination routing control", "Fail to assign source to aux destination", e);
-		}
+	public void setPresetCatalogueTtl(int presetCatalogueTtl) {
+		this.presetCatalogueTtl = presetCatalogueTtl;
+		this.presetCatalogue.setTimeToLive(presetCatalogueTtl);
 	}
 
 	/**
-	 * controlProperty: Assign source to Screen Destination
+	 * Retrieves {@code {@link #presetRecallTimeout}}
 	 *
-	 * @param destName Destination name that will be assigned a new source to
-	 * @param sourceName name of the new source
-	 * @throws Exception when fail to assign source
+	 * @return value of {@link #presetRecallTimeout}
 	 */
-	private void controlAssignSourceToScreenDest(String sourceName, String destName) throws Exception {
-		try {
-			changeScreenContent(destName, sourceName);
-		} catch (Exception e) {
-			if (e instanceof ResourceNotReachableException || e instanceof CommandFailureException) {
-				throw e;
-			}
-			throw new CommandFailureException(this.getAddress(), "screen destination routing control", "Fail to assign source to screen destination", e);
-		}
+	public int getPresetRecallTimeout() {
+		return presetRecallTimeout;
 	}
 
 	/**
-	 * controlProperty: Assign source to Super Destination
+	 * Sets {@code presetRecallTimeout}
 	 *
-	 * @param destName Destination name that will be assigned a new source to
-	 * @param sourceName name of the new source
-	 * @throws Exception when fail to assign source
+	 * @param presetRecallTimeout the {@code int} field, time in milliseconds a preset recall waits for the device to report the preset
 	 */
-	private void controlAssignSourceToSuperDest(String sourceName, String destName) throws Exception {
-		try {
-			changeScreenContent(destName, sourceName);
-		} catch (Exception e) {
-			if (e instanceof ResourceNotReachableException || e instanceof CommandFailureException) {
-				throw e;
-			}
-			throw new CommandFailureException(this.getAddress(), "super screen destination routing control", "Fail to assign source to super screen destination", e);
-		}
+	public void setPresetRecallTimeout(int presetRecallTimeout) {
+		this.presetRecallTimeout = presetRecallTimeout;
 	}
 
 	/**
-	 * controlProperty: Activate a preset.
+	 * Retrieves {@code {@link #controlConcurrency}}
+	 *
+	 * @return value of {@link #controlConcurrency}
 	 */
-	private void controlActivatePreset() {
-		try {
-			boolean result;
-			result = activatePresetResult();
-			if (logger.isDebugEnabled()) {
-				String debugString = result ? String.format("Activate %s success!", lastPresetName) : String.format("Activate %s fail!", lastPresetName);
-				logger.debug(debugString);
-			}
-		} catch (Exception e) {
-			if (e instanceof ResourceNotReachableException || e instanceof CommandFailureException) {
-				throw e;
-			}
-			throw new CommandFailureException(this.getAddress(), "preset control", "Fail to activate preset", e);
-		}
+	public int getControlConcurrency() {
+		return controlConcurrency;
 	}
 
 	/**
-	 * Get Controlling metric based on preset/ routing metric
+	 * Sets {@code controlConcurrency}
 	 *
-	 * @param property String of the property from controlProperty
-	 * @param propertyMethod String that is split by property
-	 * @return Return instance of BarcoE2ControllingMetric that based on preset/ routing metric
+	 * @param controlConcurrency the {@code int} field, number of routing controls sent to the device at the same time
 	 */
-	private BarcoE2ControllingMetric getBarcoE2ControllingMetric(String property, String propertyMethod) {
-		BarcoE2ControllingMetric barcoE2ControllingMetric;
-		if (propertyMethod.equals(BarcoE2ControllingMetric.SCREEN_DESTINATIONS.getName()) || propertyMethod.equals(BarcoE2ControllingMetric.AUX_DESTINATIONS.getName())
-				|| propertyMethod.equals(BarcoE2ControllingMetric.SUPER_SCREEN_DESTINATION.getName()) || propertyMethod.equals(BarcoE2ControllingMetric.SUPER_AUX_DESTINATION.getName())) {
-			barcoE2ControllingMetric = BarcoE2ControllingMetric.getByName(propertyMethod);
-		} else {
-			barcoE2ControllingMetric = BarcoE2ControllingMetric.getByName(property);
-		}
-		return barcoE2ControllingMetric;
+	public void setControlConcurrency(int controlConcurrency) {
+		this.controlConcurrency = controlConcurrency;
 	}
 
 	/**
-	 * Device Information: Retrieve device information.
+	 * Retrieves {@code {@link #routingCoalescingWindow}}
 	 *
-	 * @param stats Map of statistics
+	 * @return value of {@link #routingCoalescingWindow}
 	 */
-	private void getDeviceInformation(Map<String, String> stats) {
-		try {
-			JsonNode deviceInfoResponse = requestByMethod(BarcoE2Constant.METHOD_GET_FRAME_SETTINGS, new HashMap<>()).get(BarcoE2Constant.SYSTEM);
-			// put monitoring data to stats
-			if (deviceInfoResponse == null) {
-				populateNoneForNullFieldInDeviceInfo(stats);
-			} else {
-				DeviceInfo deviceInfo = (DeviceInfo) jsonNodeToDTO(deviceInfoResponse, DeviceInfo.class);
-				String macAddress = deviceInfo.getMacAddress();
-				JsonNode powerStatusResponse = requestByMethod(BarcoE2Constant.METHOD_POWER_STATUS, new HashMap<>());
-				deviceInfo.setConnectedUnit(powerStatusResponse.size());
-				PowerStatusDTO powerStatusDTO = (PowerStatusDTO) jsonNodeToDTO(powerStatusResponse.get(macAddress), PowerStatusDTO.class);
-				populateDeviceInformationData(stats, deviceInfo, powerStatusDTO);
-			}
-		} catch (Exception e) {
-			populateNoneForNullFieldInDeviceInfo(stats);
-			logger.error("Fail to get device information");
-		}
+	public int getRoutingCoalescingWindow() {
+		return routingCoalescingWindow;
 	}
 
 	/**
-	 * Device Information: Populate data for device information
+	 * Sets {@code routingCoalescingWindow}
 	 *
-	 * @param stats Map of statistic
-	 * @param deviceInfo DeviceInfo DTO
-	 * @param powerStatusDTO PowerStatusDTO DTO
+	 * @param routingCoalescingWindow the {@code int} field, time in milliseconds a route waits for a newer route of the same destination.
+	 * When it is set, {@link #controlProperty(ControllableProperty)} waits for the route that is finally run.
 	 */
-	private void populateDeviceInformationData(Map<String, String> stats, DeviceInfo deviceInfo, PowerStatusDTO powerStatusDTO) {
-		stats.put(BarcoE2MonitoringMetric.POWER_SUPPLY_1_STATUS.getName(), getPowerStatus(powerStatusDTO.getPowerSupply1Status()));
-		stats.put(BarcoE2MonitoringMetric.POWER_SUPPLY_2_STATUS.getName(), getPowerStatus(powerStatusDTO.getPowerSupply2Status()));
-		stats.put(BarcoE2MonitoringMetric.CONNECTED_UNITS.getName(), String.valueOf(deviceInfo.getConnectedUnit()));
-		stats.put(BarcoE2MonitoringMetric.FIRMWARE_VERSION.getName(), deviceInfo.getFrameWareVersion());
-		stats.put(BarcoE2MonitoringMetric.IP_ADDRESS.getName(), deviceInfo.isDhcpMode() ? deviceInfo.getIp() : deviceInfo.getStaticIP());
-		stats.put(BarcoE2MonitoringMetric.DEVICE_NAME.getName(), deviceInfo.getName());
-		stats.put(BarcoE2MonitoringMetric.DEVICE_ID.getName(), deviceInfo.getDeviceId());
-		stats.put(BarcoE2MonitoringMetric.DEVICE_MODEL.getName(), deviceInfo.getFrameTypeName());
-		stats.put(BarcoE2MonitoringMetric.MAC_ADDRESS.getName(), deviceInfo.getMacAddress());
-		stats.put(BarcoE2MonitoringMetric.HOST_NAME.getName(), deviceInfo.getName());
+	public void setRoutingCoalescingWindow(int routingCoalescingWindow) {
+		this.routingCoalescingWindow = routingCoalescingWindow;
 	}
 
 	/**
-	 * Device Information: Populate None data for device information
+	 * Retrieves {@code {@link #routingNoOpCheck}}
 	 *
-	 * @param stats Map of statistic
+	 * @return value of {@link #routingNoOpCheck}
 	 */
-	private void populateNoneForNullFieldInDeviceInfo(Map<String, String> stats) {
-		stats.put(BarcoE2MonitoringMetric.POWER_SUPPLY_1_STATUS.getName(), BarcoE2Constant.NONE);
-		stats.put(BarcoE2MonitoringMetric.POWER_SUPPLY_2_STATUS.getName(), BarcoE2Constant.NONE);
-		stats.put(BarcoE2MonitoringMetric.CONNECTED_UNITS.getName(), BarcoE2Constant.NONE);
-		stats.put(BarcoE2MonitoringMetric.FIRMWARE_VERSION.getName(), BarcoE2Constant.NONE);
-		stats.put(BarcoE2MonitoringMetric.IP_ADDRESS.getName(), BarcoE2Constant.NONE);
-		stats.put(BarcoE2MonitoringMetric.DEVICE_NAME.getName(), BarcoE2Constant.NONE);
-		stats.put(BarcoE2MonitoringMetric.DEVICE_ID.getName(), BarcoE2Constant.NONE);
-		stats.put(BarcoE2MonitoringMetric.DEVICE_MODEL.getName(), BarcoE2Constant.NONE);
-		stats.put(BarcoE2MonitoringMetric.MAC_ADDRESS.getName(), BarcoE2Constant.NONE);
-		stats.put(BarcoE2MonitoringMetric.HOST_NAME.getName(), BarcoE2Constant.NONE);
+	public String getRoutingNoOpCheck() {
+		return routingNoOpCheck;
 	}
 
 	/**
-	 * Device Information: Convert int power status to String
+	 * Sets {@code routingNoOpCheck}
 	 *
-	 * @param powerSupplyStatus int value of the powerStatus
-	 * @return String This returns the String of power status.
+	 * @param routingNoOpCheck the {@code java.lang.String} field, one of CACHED, FRESH or OFF
 	 */
-	private String getPowerStatus(int powerSupplyStatus) {
-		String powerStatus = BarcoE2Constant.DOUBLE_QUOTES;
-		if (powerSupplyStatus == PowerStatus.NOT_PRESENT.getCode()) {
-			powerStatus = PowerStatus.NOT_PRESENT.getValue();
-		} else if (powerSupplyStatus == PowerStatus.CABLE_NOT_CONNECTED.getCode()) {
-			powerStatus = PowerStatus.CABLE_NOT_CONNECTED.getValue();
-		} else if (powerSupplyStatus == PowerStatus.NO_DC_CURRENT.getCode()) {
-			powerStatus = PowerStatus.NO_DC_CURRENT.getValue();
-		} else if (powerSupplyStatus == PowerStatus.OK.getCode()) {
-			powerStatus = PowerStatus.OK.getValue();
-		}
-		return powerStatus;
+	public void setRoutingNoOpCheck(String routingNoOpCheck) {
+		this.routingNoOpCheck = routingNoOpCheck;
 	}
 
 	/**
-	 * Preset Control: Monitor & control
+	 * Retrieves {@code {@link #routingReadBackDelay}}
 	 *
-	 * @param stats Map of statistics
-	 * @param controls List of AdvancedControllableProperty
-	 * @throws Exception Throw exceptions if fail to get JsonNode
+	 * @return value of {@link #routingReadBackDelay}
 	 */
-	private void getPresetFeedBack(Map<String, String> stats, List<AdvancedControllableProperty> controls) throws Exception {
-		// Generate dropdown options
-		List<String> dropDownOptions = generateDropDownOptions();
-		// Set lastPresetName to first index of dropdown, else lastPresetName = activePresetResult
-		String activePresetResult = getActivePresetName();
-		if (BarcoE2Constant.NONE.equals(activePresetResult) && !dropDownOptions.isEmpty()) {
-			lastPresetName = dropDownOptions.get(0);
-		}
-		// Populate data to to monitor/control preset.
-		populatePresetStatsAndControls(stats, controls, dropDownOptions, activePresetResult);
+	public int getRoutingReadBackDelay() {
+		return routingReadBackDelay;
 	}
 
 	/**
-	 * Preset Control: Add presets to dropdown list
+	 * Sets {@code routingReadBackDelay}
 	 *
-	 * @return This returns List<String> of presets
-	 * @throws Exception Throw exception if fail to get JsonNode
+	 * @param routingReadBackDelay the {@code int} field, time in milliseconds after a route before the destination is read again, 0 to disable
 	 */
-	private List<String> generateDropDownOptions() throws Exception {
-		Map<Object, Object> presetParam = new HashMap<>();
-		presetParam.put(BarcoE2Constant.ID, BarcoE2Constant.LIST_ALL_DESTINATION_FOR_PRESET);
+	public void setRoutingReadBackDelay(int routingReadBackDelay) {
+		this.routingReadBackDelay = routingReadBackDelay;
+	}
+
+	/**
+	 * Retrieves {@code {@link #routingFeedbackWindow}}
+	 *
+	 * @return value of {@link #routingFeedbackWindow}
+	 */
+	public int getRoutingFeedbackWindow() {
+		return routingFeedbackWindow;
+	}
+
+	/**
+	 * Sets {@code routingFeedbackWindow}
+	 *
+	 * @param routingFeedbackWindow the {@code int} field, time in milliseconds after a route or a destination refresh during which the polls return the patched last poll
+	 * instead of reading the device, 0 to disable
+	 */
+	public void setRoutingFeedbackWindow(int routingFeedbackWindow) {
+		this.routingFeedbackWindow = routingFeedbackWindow;
+	}
+
+	/**
+	 * Retrieves {@code {@link #tallyStatistics}}
+	 *
+	 * @return value of {@link #tallyStatistics}
+	 */
+	public boolean isTallyStatistics() {
+		return tallyStatistics;
+	}
+
+	/**
+	 * Sets {@code tallyStatistics}
+	 *
+	 * @param tallyStatistics the {@code boolean} field, true to add the program/preview tally of each source to the statistics
+	 */
+	public void setTallyStatistics(boolean tallyStatistics) {
+		this.tallyStatistics = tallyStatistics;
+	}
+
+	/**
+	 * Retrieves {@code {@link #compressedResponses}}
+	 *
+	 * @return value of {@link #compressedResponses}
+	 */
+	public boolean isCompressedResponses() {
+		return compressedResponses;
+	}
+
+	/**
+	 * Sets {@code compressedResponses}
+	 *
+	 * @param compressedResponses the {@code boolean} field, true to accept the gzip or deflate responses negotiated by the HTTP client, false to ask for uncompressed responses
+	 */
+	public void setCompressedResponses(boolean compressedResponses) {
+		this.compressedResponses = compressedResponses;
+	}
+
+	/**
+	 * Retrieves {@code {@link #payloadBytesStatistics}}
+	 *
+	 * @return value of {@link #payloadBytesStatistics}
+	 */
+	public boolean isPayloadBytesStatistics() {
+		return payloadBytesStatistics;
+	}
+
+	/**
+	 * Sets {@code payloadBytesStatistics}
+	 *
+	 * @param payloadBytesStatistics the {@code boolean} field, true to add the payload bytes sent and received per method since the last poll to the statistics
+	 */
+	public void setPayloadBytesStatistics(boolean payloadBytesStatistics) {
+		this.payloadBytesStatistics = payloadBytesStatistics;
+	}
+
+	/**
+	 * Retrieves {@code {@link #jsonCodec}}
+	 *
+	 * @return value of {@link #jsonCodec}
+	 */
+	public String getJsonCodec() {
+		return jsonCodec;
+	}
+
+	/**
+	 * Sets {@code jsonCodec}
+	 *
+	 * @param jsonCodec the {@code java.lang.String} field, one of DEFAULT, AFTERBURNER or BLACKBIRD, applied on init
+	 */
+	public void setJsonCodec(String jsonCodec) {
+		this.jsonCodec = jsonCodec;
+	}
+
+	/**
+	 * Retrieves {@code {@link #routingMatrix}}
+	 *
+	 * @return value of {@link #routingMatrix}
+	 */
+	public RoutingMatrix getRoutingMatrix() {
+		return routingMatrix;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Compressed responses: the HTTP client already asks for gzip or deflate responses and decodes them.
+	 * Uncompressed responses are asked for instead when {@link #compressedResponses} is off or a compressed response could not be decoded.
+	 */
+	@Override
+	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) throws Exception {
+		if (!isCompressedResponseAccepted()) {
+			headers.set(HttpHeaders.ACCEPT_ENCODING, BarcoE2Constant.ACCEPT_ENCODING_IDENTITY);
+		}
+		return super.putExtraRequestHeaders(httpMethod, uri, headers);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * BarcoE2Communicator doesn't require authentication
+	 */
+	@Override
+	protected void authenticate() {
+		// BarcoE2Communicator doesn't require authentication
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Start the executors used to bound RPC calls by the poll deadline, to revalidate stale values and to run controls
+	 * and build the JSON codec of the adapter properties
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		super.internalInit();
+		JsonCodecMode requestedCodecMode = JsonCodecMode.getByName(jsonCodec);
+		codec = new JsonCodec(requestedCodecMode);
+		requestEncoder = new RpcRequestEncoder(codec);
+		responseCache.clear();
+		if (codec.getMode() != requestedCodecMode) {
+			logger.warn(String.format("Jackson module %s is not on the classpath, the %s JSON codec is used", requestedCodecMode.getModuleClassName(), codec.getMode()));
+		}
+		// posts cut by the deadline keep their thread until the communicator timeout, at most MAX_RPC_THREADS of them
+		rpcExecutor = new ThreadPoolExecutor(0, BarcoE2Constant.MAX_RPC_THREADS, BarcoE2Constant.RPC_THREAD_KEEP_ALIVE, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+			Thread thread = new Thread(runnable, "BarcoE2-rpc-" + this.host);
+			thread.setDaemon(true);
+			return thread;
+		});
+		revalidationExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "BarcoE2-revalidation-" + this.host);
+			thread.setDaemon(true);
+			return thread;
+		});
+		controlExecutor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "BarcoE2-control-" + this.host);
+			thread.setDaemon(true);
+			return thread;
+		});
+		commandScheduler = new KeyedCommandScheduler(Executors.newFixedThreadPool(Math.max(1, controlConcurrency), runnable -> {
+			Thread thread = new Thread(runnable, "BarcoE2-routing-" + this.host);
+			thread.setDaemon(true);
+			return thread;
+		}), Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "BarcoE2-coalescing-" + this.host);
+			thread.setDaemon(true);
+			return thread;
+		}));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Stop the executors used to bound RPC calls by the poll deadline, to revalidate stale values and to run controls
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (rpcExecutor != null) {
+			rpcExecutor.shutdownNow();
+			rpcExecutor = null;
+		}
+		if (revalidationExecutor != null) {
+			revalidationExecutor.shutdownNow();
+			revalidationExecutor = null;
+		}
+		if (controlExecutor != null) {
+			controlExecutor.shutdownNow();
+			controlExecutor = null;
+		}
+		if (commandScheduler != null) {
+			commandScheduler.shutdown();
+			commandScheduler = null;
+		}
+		routingMatrix.clear();
+		responseCache.clear();
+		payloadByteCounter.clear();
+		compressedResponseFailed.set(false);
+		super.internalDestroy();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Properties that need to be controlled:
+	 * - Routing Control
+	 * - Preset Control
+	 * Synchronous adapter over {@link #controlPropertyAsync(ControllableProperty)}, a preset recall is not awaited.
+	 * While {@link #routingCoalescingWindow} is set a route is awaited for at most the window plus {@link BarcoE2Constant#ROUTING_CONTROL_TIMEOUT},
+	 * the route that is finally run may be a later route of the same destination.
+	 *
+	 * @param controllableProperty control property that will be controlled
+	 * @throws Exception when fail to control property
+	 */
+	@Override
+	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
+		CompletableFuture<Void> result = submitControl(controllableProperty, false);
+		try {
+			if (routingCoalescingWindow > 0) {
+				result.get(routingCoalescingWindow + BarcoE2Constant.ROUTING_CONTROL_TIMEOUT, TimeUnit.MILLISECONDS);
+			} else {
+				result.get();
+			}
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			}
+			throw e;
+		} catch (TimeoutException e) {
+			throw new CommandFailureException(this.getAddress(), controllableProperty.getProperty(),
+					String.format("Control of %s did not complete within %s ms", controllableProperty.getProperty(), routingCoalescingWindow + BarcoE2Constant.ROUTING_CONTROL_TIMEOUT), e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Control properties, controls of different destinations run concurrently, controls of one destination in order
+	 *
+	 * @param list list of control properties that will be controlled
+	 * @throws Exception when fail to control properties, the first failure in the order of the list is thrown
+	 */
+	@Override
+	public void controlProperties(List<ControllableProperty> list) throws Exception {
+		if (CollectionUtils.isEmpty(list)) {
+			throw new IllegalArgumentException("Controllable properties cannot be null or empty");
+		}
+		List<CompletableFuture<Void>> results = new ArrayList<>();
+		for (ControllableProperty controllableProperty : list) {
+			results.add(submitControl(controllableProperty, false));
+		}
+		Exception failure = null;
+		for (CompletableFuture<Void> result : results) {
+			try {
+				result.get();
+			} catch (ExecutionException e) {
+				if (failure == null) {
+					failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Routing controls run on the routing executor, a preset activation completes when the device confirms the recall
+	 */
+	@Override
+	public CompletableFuture<Void> controlPropertyAsync(ControllableProperty controllableProperty) {
+		return submitControl(controllableProperty, true);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<CompletableFuture<Void>> controlPropertiesAsync(List<ControllableProperty> controllableProperties) {
+		if (CollectionUtils.isEmpty(controllableProperties)) {
+			throw new IllegalArgumentException("Controllable properties cannot be null or empty");
+		}
+		List<CompletableFuture<Void>> results = new ArrayList<>();
+		for (ControllableProperty controllableProperty : controllableProperties) {
+			results.add(controlPropertyAsync(controllableProperty));
+		}
+		return results;
+	}
+
+	/**
+	 * Start the control of a property
+	 *
+	 * @param controllableProperty control property that will be controlled
+	 * @param isRecallAwaited true if the future of a preset activation completes with the recall, false when it is dispatched
+	 * @return future completed when the control is done
+	 */
+	private CompletableFuture<Void> submitControl(ControllableProperty controllableProperty, boolean isRecallAwaited) {
+		try {
+			String property = controllableProperty.getProperty();
+			String value = String.valueOf(controllableProperty.getValue());
+			String propertyMethod = property.substring(0, property.indexOf(BarcoE2Constant.HASH_TAG));
+			String propertyValue = property.substring(property.indexOf(BarcoE2Constant.HASH_TAG) + 1);
+			if (propertyMethod.contains(BarcoE2ControllingMetric.SUPER_SCREEN_DESTINATION.getName() + BarcoE2Constant.COLON) || propertyMethod.contains(
+					BarcoE2ControllingMetric.SUPER_AUX_DESTINATION.getName() + BarcoE2Constant.COLON)) {
+				String[] splitDestString = propertyMethod.split(BarcoE2Constant.COLON);
+				String firstItem = splitDestString[0].trim();
+				if (firstItem.equals(BarcoE2ControllingMetric.SUPER_SCREEN_DESTINATION.getName()) || firstItem.equals(BarcoE2ControllingMetric.SUPER_AUX_DESTINATION.getName())) {
+					propertyMethod = splitDestString[0];
+				}
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Controlling device with property: %s and value: %s", property, value));
+			}
+			BarcoE2ControllingMetric barcoE2ControllingMetric = getBarcoE2ControllingMetric(property, propertyMethod);
+			switch (barcoE2ControllingMetric) {
+				case PRESETS_PRESET:
+					lastPresetName = value;
+					return CompletableFuture.completedFuture(null);
+				case PRESETS_PRESET_ACTIVATE:
+					PresetRecall recall = controlActivatePreset();
+					if (!isRecallAwaited) {
+						return CompletableFuture.completedFuture(null);
+					}
+					return recall.getCompletion().thenAccept(state -> {
+						if (state != PresetRecallState.CONFIRMED) {
+							throw new CommandFailureException(this.getAddress(), "preset control", String.format("Recall of preset %s is %s", recall.getPresetName(), state.getValue()));
+						}
+					});
+				case SCREEN_DESTINATIONS:
+					return runControl(String.format(BarcoE2Constant.SCREEN_COMMAND_KEY, propertyValue), () -> controlAssignSourceToScreenDest(value, propertyValue));
+				case SUPER_SCREEN_DESTINATION:
+					return runControl(String.format(BarcoE2Constant.SCREEN_COMMAND_KEY, propertyValue), () -> controlAssignSourceToSuperDest(value, propertyValue));
+				case AUX_DESTINATIONS:
+					return runControl(String.format(BarcoE2Constant.AUX_COMMAND_KEY, propertyValue), () -> controlAssignSourceToAuxDest(value, propertyValue));
+				case SUPER_AUX_DESTINATION:
+					return runControl(String.format(BarcoE2Constant.AUX_COMMAND_KEY, propertyValue), () -> controlAssignSourceToSuperAuxDest(value, propertyValue));
+				case REFRESH_DESTINATION:
+					if (BarcoE2Constant.NONE.equals(value)) {
+						return CompletableFuture.completedFuture(null);
+					}
+					// queued behind the routes of the destinations it reads, it never supersedes one of them
+					Set<String> commandKeys = refreshCommandKeysByOption.getOrDefault(value, Collections.singleton(value));
+					return runControlAfter(commandKeys, () -> controlRefreshDestination(value));
+				default:
+					if (logger.isWarnEnabled()) {
+						logger.warn(String.format("Operation %s with value %s is not supported.", property, value));
+					}
+					throw new IllegalArgumentException(String.format("Operation %s with value %s is not supported.", property, value));
+			}
+		} catch (Exception e) {
+			CompletableFuture<Void> failure = new CompletableFuture<>();
+			failure.completeExceptionally(e);
+			return failure;
+		}
+	}
+
+	/**
+	 * Run the RPC steps of a routing control behind the previous controls of the same destination.
+	 * Within {@link #routingCoalescingWindow} only the latest control of the destination is run.
+	 *
+	 * @param destinationKey key of the destination, a super destination shares the key of its destination
+	 * @param control the routing control
+	 * @return future completed when the control is done
+	 */
+	private CompletableFuture<Void> runControl(String destinationKey, KeyedCommandScheduler.Command control) {
+		KeyedCommandScheduler scheduler = commandScheduler;
+		if (scheduler != null) {
+			return scheduler.submitLatest(destinationKey, control, routingCoalescingWindow);
+		}
+		return runControlInline(control);
+	}
+
+	/**
+	 * Run a control behind the previous controls of every destination it reads, it is never coalesced with them
+	 *
+	 * @param destinationKeys keys of the destinations
+	 * @param control the control
+	 * @return future completed when the control is done
+	 */
+	private CompletableFuture<Void> runControlAfter(Set<String> destinationKeys, KeyedCommandScheduler.Command control) {
+		KeyedCommandScheduler scheduler = commandScheduler;
+		if (scheduler != null) {
+			return scheduler.submitAfter(destinationKeys, control);
+		}
+		return runControlInline(control);
+	}
+
+	/**
+	 * Run a control on the calling thread when the scheduler is not started
+	 *
+	 * @param control the control
+	 * @return future completed with the outcome of the control
+	 */
+	private CompletableFuture<Void> runControlInline(KeyedCommandScheduler.Command control) {
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		try {
+			control.run();
+			result.complete(null);
+		} catch (Exception e) {
+			result.completeExceptionally(e);
+		}
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * This method is called by Symphony to get the list of statistics to be displayed
+	 * Only one poll runs against the device at a time, overlapping calls are served by {@link #joinInFlightPoll(CompletableFuture)}
+	 * Within {@link #routingFeedbackWindow} of a route or a destination refresh the patched last poll is returned without reading the device.
+	 *
+	 * @return List<Statistics> This returns the list of statistics
+	 * @throws Exception Throw exception when fail to get info from device
+	 */
+	@Override
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		List<Statistics> writtenThroughStatistics = getWrittenThroughStatistics();
+		if (writtenThroughStatistics != null) {
+			return writtenThroughStatistics;
+		}
+		CompletableFuture<List<Statistics>> currentPoll;
+		boolean isPollOwner = false;
+		synchronized (pollMonitor) {
+			if (inFlightPoll == null) {
+				inFlightPoll = new CompletableFuture<>();
+				isPollOwner = true;
+			}
+			currentPoll = inFlightPoll;
+		}
+		if (!isPollOwner) {
+			return joinInFlightPoll(currentPoll);
+		}
+		try {
+			List<Statistics> statistics = retrieveStatistics();
+			lastCompletedStatistics.set(statistics);
+			currentPoll.complete(statistics);
+			return statistics;
+		} catch (Exception e) {
+			currentPoll.completeExceptionally(e);
+			throw e;
+		} finally {
+			synchronized (pollMonitor) {
+				inFlightPoll = null;
+			}
+		}
+	}
+
+	/**
+	 * Routing write-through: Get the last poll patched with a route written through within {@link #routingFeedbackWindow}
+	 *
+	 * @return List<Statistics> of the last poll with the route, null if no route was written through within the window
+	 */
+	private List<Statistics> getWrittenThroughStatistics() {
+		if (routingFeedbackWindow <= 0 || System.currentTimeMillis() - lastWriteThroughTime >= routingFeedbackWindow) {
+			return null;
+		}
+		List<Statistics> snapshot = lastCompletedStatistics.get();
+		if (snapshot != null && logger.isDebugEnabled()) {
+			logger.debug(String.format("A route was written through for host %s, returning the patched snapshot", this.host));
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Single-flight poll: serve a caller that arrives while another poll is still running.
+	 * The last completed snapshot is returned right away if there is one, otherwise the caller waits for the running poll.
+	 *
+	 * @param currentPoll the poll that is in flight
+	 * @return List<Statistics> of the last completed or the in-flight poll
+	 * @throws Exception Throw exception when the in-flight poll fails and there is no snapshot to fall back to
+	 */
+	private List<Statistics> joinInFlightPoll(CompletableFuture<List<Statistics>> currentPoll) throws Exception {
+		List<Statistics> snapshot = lastCompletedStatistics.get();
+		if (snapshot != null) {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("A poll is already running for host %s, returning the last completed snapshot", this.host));
+			}
+			return snapshot;
+		}
+		try {
+			return currentPoll.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Retrieve monitoring and controlling data from the device
+	 *
+	 * @return List<Statistics> This returns the list of statistics
+	 * @throws Exception Throw exception when fail to get info from device
+	 */
+	private List<Statistics> retrieveStatistics() throws Exception {
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Getting statistics from the device at host %s with port %s", this.host, this.getPort()));
+		}
+		Map<String, String> statistics = new HashMap<>();
+		List<AdvancedControllableProperty> controls = new ArrayList<>();
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		if (pollDeadline > 0) {
+			pollDeadlineNanos.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pollDeadline));
+		}
+		try {
+			initializeData(statistics, controls);
+		} finally {
+			pollDeadlineNanos.remove();
+		}
+		for (String statisticName : statistics.keySet()) {
+			if (statisticName.startsWith(BarcoE2Constant.STALE_DATA_GROUP)) {
+				scheduleRevalidation();
+				break;
+			}
+		}
+		extendedStatistics.setStatistics(statistics);
+		extendedStatistics.setControllableProperties(controls);
+		return Collections.singletonList(extendedStatistics);
+	}
+
+	/**
+	 * Prepare meta data for the device
+	 */
+	private void prepareDeviceMetaData() {
+		if (listSuperScreenDestId != null) {
+			listSuperDestId = handleListSuperId(true);
+		} else {
+			listSuperDestId = Collections.emptyList();
+		}
+		if (listSuperAuxDestId != null) {
+			listSuperAuxId = handleListSuperId(false);
+		} else {
+			listSuperAuxId = Collections.emptyList();
+		}
+		try {
+			SourceTable listedSourceTable = listSourceTable();
+			// keep the current table while the sources don't change
+			if (!listedSourceTable.equals(sourceTable)) {
+				sourceTable = listedSourceTable;
+			}
+			isFailRetrieveMetaData = false;
+		} catch (Exception e) {
+			logger.error("Fail to monitor and control routing part");
+			isFailRetrieveMetaData = true;
+		}
+	}
+
+	/**
+	 * Call post request on the device to get RpcResponse DTO
+	 * Requests fail fast with ResourceNotReachableException while the circuit breaker is open
+	 *
+	 * @param method String name of the method
+	 * @param param Map of params
+	 * @return JsonNode returns the JsonNode of given object
+	 * @throws Exception Throw exception when fail to call post request, get data from device
+	 */
+	protected JsonNode requestByMethod(String method, Map<Object, Object> param) throws Exception {
+		if (!circuitBreaker.tryAcquire()) {
+			throw new ResourceNotReachableException(String.format("Device at host %s is unreachable, %s is skipped until the next probe", this.host, method));
+		}
+		RpcResponse rpcResponse;
+		try {
+			rpcResponse = postWithCompressionFallback(method, requestEncoder.encode(method, param));
+		} catch (TimeoutException e) {
+			// the poll ran out of time, this tells nothing about the device, a probe is let through again later
+			circuitBreaker.releaseProbe();
+			throw e;
+		} catch (Exception e) {
+			if (isConnectionFailure(e)) {
+				circuitBreaker.recordFailure();
+			} else {
+				circuitBreaker.recordSuccess();
+			}
+			throw e;
+		}
+		circuitBreaker.recordSuccess();
+		if (rpcResponse == null) {
+			throw new ResourceNotReachableException("doPost success but fail to get data from the device");
+		}
+		JsonNode response = rpcResponse.getResponse();
+		if (response != null && !NullNode.instance.equals(response) && !response.isEmpty()) {
+			return response;
+		}
+		// RETURN THE JsonNode of RpcResponse
+		return codec.valueToTree(rpcResponse);
+	}
+
+	/**
+	 * Compressed responses: send the request, it is sent once more asking for an uncompressed response
+	 * if the compressed response could not be decoded. Later requests then ask for uncompressed responses until the next init.
+	 *
+	 * @param method String name of the method
+	 * @param encodedRequest encoded request body
+	 * @return RpcResponse DTO
+	 * @throws Exception Throw exception when fail to call post request
+	 */
+	private RpcResponse postWithCompressionFallback(String method, EncodedRequest encodedRequest) throws Exception {
+		try {
+			return postWithinPollDeadline(method, encodedRequest);
+		} catch (Exception e) {
+			if (!compressedResponses || !isCompressionFailure(e) || !compressedResponseFailed.compareAndSet(false, true)) {
+				throw e;
+			}
+			logger.warn(String.format("Fail to decode the compressed response of %s, uncompressed responses are requested from now on", method), e);
+			return postWithinPollDeadline(method, encodedRequest);
+		}
+	}
+
+	/**
+	 * Compressed responses: check if an exception comes from decoding a compressed response
+	 *
+	 * @param e the exception
+	 * @return true if a gzip or deflate stream could not be decoded
+	 */
+	private boolean isCompressionFailure(Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ZipException || cause instanceof DataFormatException) {
+				return true;
+			}
+			if (cause.getCause() == cause) {
+				break;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Compressed responses: check if the requests leave the gzip and deflate negotiation of the HTTP client in place
+	 *
+	 * @return true if compressed responses are accepted, false if uncompressed responses are asked for
+	 */
+	private boolean isCompressedResponseAccepted() {
+		return compressedResponses && !compressedResponseFailed.get();
+	}
+
+	/**
+	 * Poll deadline: send the request, bounded by the time left of the poll running on the current thread.
+	 * Requests outside of a poll, or without {@link #pollDeadline}, use the communicator timeout only.
+	 * The raw body is read as bytes and parsed only when it differs from the last response to the same method and params.
+	 *
+	 * @param method String name of the method
+	 * @param encodedRequest encoded request body
+	 * @return RpcResponse DTO
+	 * @throws TimeoutException when the poll deadline passed before the response arrived, or no RPC thread is free to wait for it
+	 * @throws Exception Throw exception when fail to call post request
+	 */
+	private RpcResponse postWithinPollDeadline(String method, EncodedRequest encodedRequest) throws Exception {
+		Long deadline = pollDeadlineNanos.get();
+		ExecutorService executor = rpcExecutor;
+		byte[] body;
+		if (deadline == null || executor == null) {
+			body = this.doPost(BarcoE2Constant.DOUBLE_QUOTES, encodedRequest.getBody(), byte[].class);
+		} else {
+			long remainingNanos = deadline - System.nanoTime();
+			if (remainingNanos <= 0) {
+				throw new TimeoutException(String.format("Poll deadline passed before %s", method));
+			}
+			Future<byte[]> future;
+			try {
+				future = executor.submit(() -> this.doPost(BarcoE2Constant.DOUBLE_QUOTES, encodedRequest.getBody(), byte[].class));
+			} catch (RejectedExecutionException e) {
+				throw new TimeoutException(String.format("Poll deadline cannot be kept for %s, all RPC threads wait for requests cut by earlier deadlines", method));
+			}
+			try {
+				body = future.get(remainingNanos, TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+				future.cancel(true);
+				throw new TimeoutException(String.format("Poll deadline passed while waiting for %s", method));
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof Exception) {
+					throw (Exception) e.getCause();
+				}
+				throw e;
+			}
+		}
+		payloadByteCounter.record(method, encodedRequest.getBody().length, body == null ? 0 : body.length);
+		return toRpcResponse(encodedRequest, body);
+	}
+
+	/**
+	 * Response cache: get the RpcResponse of a raw body, the body is parsed only if it changed since the last response to the same request.
+	 * Responses to requests without a cache key, such as the routing writes, are always parsed and never kept.
+	 *
+	 * @param encodedRequest request the body answers
+	 * @param body raw body of the response
+	 * @return RpcResponse DTO, null if there is no body
+	 * @throws Exception Throw exception when fail to parse the body
+	 */
+	private RpcResponse toRpcResponse(EncodedRequest encodedRequest, byte[] body) throws Exception {
+		if (body == null) {
+			return null;
+		}
+		String key = encodedRequest.getKey();
+		if (key == null) {
+			return codec.readValue(body, RpcResponse.class);
+		}
+		RpcResponse rpcResponse = responseCache.get(key, body);
+		if (rpcResponse != null) {
+			return rpcResponse;
+		}
+		rpcResponse = codec.readValue(body, RpcResponse.class);
+		responseCache.put(key, body, rpcResponse);
+		return rpcResponse;
+	}
+
+	/**
+	 * Poll deadline: check if the poll running on the current thread is out of time
+	 *
+	 * @return true if there is a deadline and it has passed
+	 */
+	private boolean isPollDeadlineExpired() {
+		Long deadline = pollDeadlineNanos.get();
+		return deadline != null && deadline - System.nanoTime() <= 0;
+	}
+
+	/**
+	 * Poll deadline: run a phase of the poll unless the deadline has passed.
+	 * A phase that is skipped or cut by the deadline is reported through the PollIncomplete statistics.
+	 * The values of a successful run are kept as last known good, they are served as stale when a later run fails.
+	 *
+	 * @param phaseName name of the phase
+	 * @param stats Map of statistics
+	 * @param controls List of AdvancedControllableProperty
+	 * @param isRequired true if a failure without last known good values fails the whole poll
+	 * @param phase the phase to run
+	 * @return true if fresh or stale values of the phase were populated
+	 * @throws Exception Throw exception when a required phase fails and there are no last known good values
+	 */
+	private boolean runPollPhase(String phaseName, Map<String, String> stats, List<AdvancedControllableProperty> controls, boolean isRequired, PollPhase phase)
+			throws Exception {
+		if (isPollDeadlineExpired()) {
+			markPollIncomplete(stats, phaseName);
+			return serveLastKnownGood(phaseName, stats, controls);
+		}
+		Map<String, String> phaseStats = new HashMap<>();
+		List<AdvancedControllableProperty> phaseControls = new ArrayList<>();
+		try {
+			phase.run(phaseStats, phaseControls);
+		} catch (TimeoutException e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Poll deadline passed during %s", phaseName), e);
+			}
+			markPollIncomplete(stats, phaseName);
+			return serveLastKnownGood(phaseName, stats, controls);
+		} catch (Exception e) {
+			if (serveLastKnownGood(phaseName, stats, controls)) {
+				logger.warn(String.format("Fail to refresh %s, serving last known good values", phaseName), e);
+				return true;
+			}
+			if (isRequired) {
+				throw e;
+			}
+			logger.error(String.format("Fail to get %s", phaseName), e);
+			return false;
+		}
+		stats.putAll(phaseStats);
+		controls.addAll(phaseControls);
+		lastKnownGood.put(phaseName, new PhaseSnapshot(phaseStats, phaseControls));
+		return true;
+	}
+
+	/**
+	 * Last known good: populate the last successful values of a phase, marked as stale with their age in seconds
+	 *
+	 * @param phaseName name of the phase
+	 * @param stats Map of statistics
+	 * @param controls List of AdvancedControllableProperty
+	 * @return true if there were last known good values to serve
+	 */
+	private boolean serveLastKnownGood(String phaseName, Map<String, String> stats, List<AdvancedControllableProperty> controls) {
+		PhaseSnapshot snapshot = lastKnownGood.get(phaseName);
+		if (snapshot == null) {
+			return false;
+		}
+		stats.putAll(snapshot.statistics);
+		controls.addAll(snapshot.controls);
+		long ageInSeconds = (System.currentTimeMillis() - snapshot.timestamp) / 1000;
+		stats.put(String.format(BarcoE2Constant.STALE_DATA_AGE, phaseName), String.valueOf(ageInSeconds));
+		return true;
+	}
+
+	/**
+	 * Last known good: populate the last successful values of every phase when the device did not answer the reachability checks
+	 *
+	 * @param stats Map of statistics
+	 * @param controls List of AdvancedControllableProperty
+	 * @return true if there were last known good values to serve
+	 */
+	private boolean serveLastKnownGoodPoll(Map<String, String> stats, List<AdvancedControllableProperty> controls) {
+		boolean isServed = serveLastKnownGood(BarcoE2Constant.PHASE_DEVICE_INFORMATION, stats, controls);
+		isServed |= serveLastKnownGood(BarcoE2Constant.PHASE_PRESETS, stats, controls);
+		isServed |= serveLastKnownGood(BarcoE2Constant.PHASE_SCREEN_DESTINATIONS, stats, controls);
+		isServed |= serveLastKnownGood(BarcoE2Constant.PHASE_AUX_DESTINATIONS, stats, controls);
+		isServed |= serveLastKnownGood(BarcoE2Constant.PHASE_SUPER_DESTINATIONS, stats, controls);
+		isServed |= serveLastKnownGood(BarcoE2Constant.PHASE_SUPER_AUX_DESTINATIONS, stats, controls);
+		if (!isServed) {
+			return false;
+		}
+		populateRefreshControl(stats, controls);
+		populateTallyStats(stats);
+		populatePayloadBytesStats(stats);
+		return true;
+	}
+
+	/**
+	 * Last known good: refresh stale values in the background, once, after {@link #staleRevalidationDelay}.
+	 * The refresh is a regular single-flight poll, so it never overlaps with a poll from Symphony.
+	 */
+	private void scheduleRevalidation() {
+		ScheduledExecutorService executor = revalidationExecutor;
+		if (executor == null || !isRevalidationScheduled.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			executor.schedule(() -> {
+				try {
+					getMultipleStatistics();
+				} catch (Exception e) {
+					if (logger.isDebugEnabled()) {
+						logger.debug(String.format("Fail to revalidate stale values of host %s", this.host), e);
+					}
+				} finally {
+					isRevalidationScheduled.set(false);
+				}
+			}, staleRevalidationDelay, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			isRevalidationScheduled.set(false);
+		}
+	}
+
+	/**
+	 * Poll deadline: mark the statistics as incomplete and record the phase that was skipped
+	 *
+	 * @param stats Map of statistics
+	 * @param phaseName name of the skipped phase
+	 */
+	private void markPollIncomplete(Map<String, String> stats, String phaseName) {
+		stats.put(BarcoE2MonitoringMetric.POLL_INCOMPLETE.getName(), BarcoE2Constant.TRUE);
+		String skippedPhases = stats.get(BarcoE2MonitoringMetric.POLL_SKIPPED_PHASES.getName());
+		stats.put(BarcoE2MonitoringMetric.POLL_SKIPPED_PHASES.getName(), skippedPhases == null ? phaseName : skippedPhases + BarcoE2Constant.COMMA + phaseName);
+	}
+
+	/**
+	 * Check if an exception is caused by the device being unreachable (refused/timed out connection, unknown host...)
+	 * Errors on a connection that was made, such as a read timeout or a response that cannot be parsed, are not connection failures.
+	 *
+	 * @param e exception thrown by the request
+	 * @return true if a connection error is found in the cause chain
+	 */
+	private boolean isConnectionFailure(Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConnectException || cause instanceof NoRouteToHostException || cause instanceof UnknownHostException
+					|| cause instanceof ConnectTimeoutException) {
+				return true;
+			}
+			if (cause instanceof SocketTimeoutException && cause.getMessage() != null && cause.getMessage().contains(BarcoE2Constant.CONNECT_TIMED_OUT)) {
+				return true;
+			}
+			if (cause.getCause() == cause) {
+				break;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Circuit breaker: when the device was unreachable, probe it with a single cheap request before running a full poll.
+	 *
+	 * @throws Exception Throw ResourceNotReachableException when the device is still unreachable
+	 */
+	private void probeUnreachableDevice() throws Exception {
+		if (circuitBreaker.getState() == CircuitBreakerState.CLOSED) {
+			return;
+		}
+		requestByMethod(BarcoE2Constant.METHOD_LAST_RECALLED_PRESET, Collections.emptyMap());
+	}
+
+	/**
+	 * Reachability: run the liveness check before the RPC calls of the poll and populate round-trip time statistics.
+	 * A device that answers the check lets the poll probe an open circuit without waiting for {@link #circuitBreakerRetryInterval}.
+	 *
+	 * @param stats Map of statistics
+	 * @throws ResourceNotReachableException when the device does not answer within {@link #reachabilityProbeBudget}
+	 */
+	private void checkReachability(Map<String, String> stats) {
+		ReachabilityProbeMode probeMode = ReachabilityProbeMode.getByName(reachabilityProbe);
+		if (probeMode == ReachabilityProbeMode.NONE) {
+			return;
+		}
+		long roundTripTime = probeMode == ReachabilityProbeMode.ICMP ? icmpRoundTripTime() : tcpRoundTripTime();
+		if (roundTripTime < 0) {
+			circuitBreaker.recordFailure();
+			throw new ResourceNotReachableException(String.format("Device at host %s did not answer the %s probe within %s ms", this.host, probeMode, reachabilityProbeBudget));
+		}
+		circuitBreaker.recordReachable();
+		long totalRoundTripTime = 0;
+		synchronized (roundTripTimeHistory) {
+			if (roundTripTimeHistory.size() == BarcoE2Constant.REACHABILITY_HISTORY_SIZE) {
+				roundTripTimeHistory.removeFirst();
+			}
+			roundTripTimeHistory.addLast(roundTripTime);
+			StringBuilder history = new StringBuilder();
+			for (Long value : roundTripTimeHistory) {
+				if (history.length() > 0) {
+					history.append(BarcoE2Constant.COMMA);
+				}
+				history.append(value);
+				totalRoundTripTime += value;
+			}
+			stats.put(BarcoE2MonitoringMetric.ROUND_TRIP_TIME_HISTORY.getName(), history.toString());
+			stats.put(BarcoE2MonitoringMetric.AVERAGE_ROUND_TRIP_TIME.getName(), String.valueOf(totalRoundTripTime / roundTripTimeHistory.size()));
+		}
+		stats.put(BarcoE2MonitoringMetric.ROUND_TRIP_TIME.getName(), String.valueOf(roundTripTime));
+	}
+
+	/**
+	 * Reachability: ICMP echo to the device
+	 *
+	 * @return round-trip time in milliseconds, -1 if the device did not answer
+	 */
+	private long icmpRoundTripTime() {
+		IcmpPingResponse response = IcmpPingUtil.executePingRequest(this.host, BarcoE2Constant.ICMP_PACKET_SIZE, reachabilityProbeBudget);
+		if (response == null || !response.getSuccessFlag()) {
+			return -1;
+		}
+		return response.getRtt();
+	}
+
+	/**
+	 * Reachability: TCP connect to the JSON-RPC port of the device
+	 *
+	 * @return connect time in milliseconds, -1 if the connection could not be opened
+	 */
+	private long tcpRoundTripTime() {
+		long start = System.nanoTime();
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress(this.host, this.getPort()), reachabilityProbeBudget);
+			return (System.nanoTime() - start) / 1000000;
+		} catch (IOException e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("TCP probe to %s:%s failed", this.host, this.getPort()), e);
+			}
+			return -1;
+		}
+	}
+
+	/**
+	 * Initialize monitoring/controlling data
+	 *
+	 * @param statistics Map of statistics
+	 * @param controls List of AdvancedControllableProperty that need to be controlled
+	 * @throws Exception Throw exception when fail to get preset/routing monitoring and controlling properties
+	 */
+	private void initializeData(Map<String, String> statistics, List<AdvancedControllableProperty> controls) throws Exception {
+		try {
+			checkReachability(statistics);
+			probeUnreachableDevice();
+		} catch (ResourceNotReachableException e) {
+			if (!serveLastKnownGoodPoll(statistics, controls)) {
+				throw e;
+			}
+			logger.warn(String.format("Serve last known good values of host %s: %s", this.host, e.getMessage()));
+			return;
+		}
+		if (!runPollPhase(BarcoE2Constant.PHASE_DEVICE_INFORMATION, statistics, controls, false, (stats, ctrls) -> getDeviceInformation(stats))) {
+			populateNoneForNullFieldInDeviceInfo(statistics);
+		}
+		if (circuitBreaker.getState() != CircuitBreakerState.CLOSED) {
+			// the device went away while getting device information, skip the rest of the poll
+			if (!serveLastKnownGoodPoll(statistics, controls)) {
+				throw new ResourceNotReachableException(String.format("Device at host %s is unreachable", this.host));
+			}
+			logger.warn(String.format("Serve last known good values of host %s: the device went away while getting device information", this.host));
+			return;
+		}
+		runPollPhase(BarcoE2Constant.PHASE_PRESETS, statistics, controls, true, this::getPresetFeedBack);
+		populatePresetRecallStats(statistics);
+		boolean isMetaDataReady = runPollPhase(BarcoE2Constant.PHASE_ROUTING_METADATA, statistics, controls, true, (stats, ctrls) -> prepareDeviceMetaData());
+		if (isMetaDataReady && isFailRetrieveMetaData && isPollDeadlineExpired()) {
+			// metadata retrieval was cut by the deadline
+			markPollIncomplete(statistics, BarcoE2Constant.PHASE_ROUTING_METADATA);
+		}
+		if (!isMetaDataReady || isFailRetrieveMetaData) {
+			// keep the routing groups of the last successful poll instead of dropping them
+			serveLastKnownGood(BarcoE2Constant.PHASE_SCREEN_DESTINATIONS, statistics, controls);
+			serveLastKnownGood(BarcoE2Constant.PHASE_AUX_DESTINATIONS, statistics, controls);
+			serveLastKnownGood(BarcoE2Constant.PHASE_SUPER_DESTINATIONS, statistics, controls);
+			serveLastKnownGood(BarcoE2Constant.PHASE_SUPER_AUX_DESTINATIONS, statistics, controls);
+			populateRefreshControl(statistics, controls);
+			populateTallyStats(statistics);
+			populatePayloadBytesStats(statistics);
+			return;
+		}
+		runPollPhase(BarcoE2Constant.PHASE_SCREEN_DESTINATIONS, statistics, controls, true, (stats, ctrls) -> getRoutingControl(true, stats, ctrls));
+		runPollPhase(BarcoE2Constant.PHASE_AUX_DESTINATIONS, statistics, controls, true, (stats, ctrls) -> getRoutingControl(false, stats, ctrls));
+		runPollPhase(BarcoE2Constant.PHASE_SUPER_DESTINATIONS, statistics, controls, true, (stats, ctrls) -> getSuperRoutingControl(true, stats, ctrls));
+		runPollPhase(BarcoE2Constant.PHASE_SUPER_AUX_DESTINATIONS, statistics, controls, true, (stats, ctrls) -> getSuperRoutingControl(false, stats, ctrls));
+		populateRefreshControl(statistics, controls);
+		populateTallyStats(statistics);
+		populatePayloadBytesStats(statistics);
+	}
+
+	/**
+	 * Payload bytes: populate the payload bytes sent and received per method since the last poll, with the Accept-Encoding of the requests.
+	 * The HTTP client decompresses the responses before they are counted, these are not the bytes on the wire.
+	 *
+	 * @param stats Map of statistics
+	 */
+	private void populatePayloadBytesStats(Map<String, String> stats) {
+		Map<String, long[]> bytesByMethod = payloadByteCounter.snapshot();
+		if (!payloadBytesStatistics) {
+			return;
+		}
+		long totalSent = 0;
+		long totalReceived = 0;
+		for (Map.Entry<String, long[]> entry : bytesByMethod.entrySet()) {
+			long[] bytes = entry.getValue();
+			stats.put(String.format(BarcoE2Constant.PAYLOAD_BYTES_SENT, entry.getKey()), String.valueOf(bytes[0]));
+			stats.put(String.format(BarcoE2Constant.PAYLOAD_BYTES_RECEIVED, entry.getKey()), String.valueOf(bytes[1]));
+			totalSent += bytes[0];
+			totalReceived += bytes[1];
+		}
+		stats.put(String.format(BarcoE2Constant.PAYLOAD_BYTES_SENT, BarcoE2Constant.PAYLOAD_BYTES_TOTAL), String.valueOf(totalSent));
+		stats.put(String.format(BarcoE2Constant.PAYLOAD_BYTES_RECEIVED, BarcoE2Constant.PAYLOAD_BYTES_TOTAL), String.valueOf(totalReceived));
+		stats.put(BarcoE2Constant.PAYLOAD_BYTES_ACCEPT_ENCODING, isCompressedResponseAccepted() ? BarcoE2Constant.ACCEPT_ENCODING_COMPRESSED : BarcoE2Constant.ACCEPT_ENCODING_IDENTITY);
+	}
+
+	/**
+	 * Map a JsonNode to DTO, the DTO read from a node of an unchanged response is reused
+	 *
+	 * @param jsonNode input jsonNode that need to be converted
+	 * @param tClass Class that will be converted to
+	 * @return This returns the DTO of given Object.
+	 */
+	private <T> Object jsonNodeToDTO(JsonNode jsonNode, Class<T> tClass) throws IOException {
+		T derived = responseCache.getDerived(jsonNode, tClass);
+		if (derived != null) {
+			return derived;
+		}
+		derived = codec.treeToValue(jsonNode, tClass);
+		responseCache.putDerived(jsonNode, derived);
+		return derived;
+	}
+
+	/**
+	 * controlProperty: Assign source to Super Aux Destination
+	 *
+	 * @param destName Destination name that will be assigned a new source to
+	 * @param sourceName name of the new source
+	 * @throws Exception when fail to change aux content
+	 */
+	private void controlAssignSourceToSuperAuxDest(String sourceName, String destName) throws Exception {
+		try {
+			changeAuxContent(destName, sourceName);
+		} catch (Exception e) {
+			if (e instanceof ResourceNotReachableException || e instanceof CommandFailureException) {
+				throw e;
+			}
+			throw new CommandFailureException(this.getAddress(), "super aux destination routing control", "Fail to assign source to super aux destination", e);
+		}
+	}
+
+	/**
+	 * controlProperty: Assign source to Aux Destination
+	 *
+	 * @param destName Destination name that will be assigned a new source to
+	 * @param sourceName name of the new source
+	 * @throws Exception when fail to change aux content
+	 */
+	private void controlAssignSourceToAuxDest(String sourceName, String destName) throws Exception {
+		try {
+			changeAuxContent(destName, sourceName);
+		} catch (Exception e) {
+			if (e instanceof ResourceNotReachableException || e instanceof CommandFailureException) {
+				throw e;
+			}
+			throw new CommandFailureException(this.getAddress(), "aux destination routing control", "Fail to assign source to aux destination", e);
+		}
+	}
+
+	/**
+	 * controlProperty: Assign source to Screen Destination
+	 *
+	 * @param destName Destination name that will be assigned a new source to
+	 * @param sourceName name of the new source
+	 * @throws Exception when fail to assign source
+	 */
+	private void controlAssignSourceToScreenDest(String sourceName, String destName) throws Exception {
+		try {
+			changeScreenContent(destName, sourceName);
+		} catch (Exception e) {
+			if (e instanceof ResourceNotReachableException || e instanceof CommandFailureException) {
+				throw e;
+			}
+			throw new CommandFailureException(this.getAddress(), "screen destination routing control", "Fail to assign source to screen destination", e);
+		}
+	}
+
+	/**
+	 * controlProperty: Assign source to Super Destination
+	 *
+	 * @param destName Destination name that will be assigned a new source to
+	 * @param sourceName name of the new source
+	 * @throws Exception when fail to assign source
+	 */
+	private void controlAssignSourceToSuperDest(String sourceName, String destName) throws Exception {
+		try {
+			changeScreenContent(destName, sourceName);
+		} catch (Exception e) {
+			if (e instanceof ResourceNotReachableException || e instanceof CommandFailureException) {
+				throw e;
+			}
+			throw new CommandFailureException(this.getAddress(), "super screen destination routing control", "Fail to assign source to super screen destination", e);
+		}
+	}
+
+	/**
+	 * controlProperty: Activate a preset.
+	 * The recall runs on the control executor, its completion is tracked as the pending recall.
+	 *
+	 * @return the started preset recall
+	 */
+	private PresetRecall controlActivatePreset() {
+		PresetRecall recall;
+		try {
+			recall = new PresetRecall(getPresetNameToActivate());
+		} catch (Exception e) {
+			if (e instanceof ResourceNotReachableException || e instanceof CommandFailureException) {
+				throw (RuntimeException) e;
+			}
+			throw new CommandFailureException(this.getAddress(), "preset control", "Fail to activate preset", e);
+		}
+		pendingRecall = recall;
+		ExecutorService executor = controlExecutor;
+		if (executor == null) {
+			recallPreset(recall);
+			return recall;
+		}
+		try {
+			executor.execute(() -> recallPreset(recall));
+		} catch (RejectedExecutionException e) {
+			recall.complete(PresetRecallState.FAILED);
+			throw new CommandFailureException(this.getAddress(), "preset control", "Fail to activate preset", e);
+		}
+		return recall;
+	}
+
+	/**
+	 * Get Controlling metric based on preset/ routing metric
+	 *
+	 * @param property String of the property from controlProperty
+	 * @param propertyMethod String that is split by property
+	 * @return Return instance of BarcoE2ControllingMetric that based on preset/ routing metric
+	 */
+	private BarcoE2ControllingMetric getBarcoE2ControllingMetric(String property, String propertyMethod) {
+		BarcoE2ControllingMetric barcoE2ControllingMetric;
+		if (propertyMethod.equals(BarcoE2ControllingMetric.SCREEN_DESTINATIONS.getName()) || propertyMethod.equals(BarcoE2ControllingMetric.AUX_DESTINATIONS.getName())
+				|| propertyMethod.equals(BarcoE2ControllingMetric.SUPER_SCREEN_DESTINATION.getName()) || propertyMethod.equals(BarcoE2ControllingMetric.SUPER_AUX_DESTINATION.getName())) {
+			barcoE2ControllingMetric = BarcoE2ControllingMetric.getByName(propertyMethod);
+		} else {
+			barcoE2ControllingMetric = BarcoE2ControllingMetric.getByName(property);
+		}
+		return barcoE2ControllingMetric;
+	}
+
+	/**
+	 * Device Information: Retrieve device information.
+	 *
+	 * @param stats Map of statistics
+	 * @throws Exception Throw exception when fail to get device information, the poll then falls back to last known good or None values
+	 */
+	private void getDeviceInformation(Map<String, String> stats) throws Exception {
+		JsonNode deviceInfoResponse = requestByMethod(BarcoE2Constant.METHOD_GET_FRAME_SETTINGS, Collections.emptyMap()).get(BarcoE2Constant.SYSTEM);
+		if (deviceInfoResponse == null) {
+			throw new ResourceNotReachableException("Fail to get device information");
+		}
+		// put monitoring data to stats
+		DeviceInfo deviceInfo = (DeviceInfo) jsonNodeToDTO(deviceInfoResponse, DeviceInfo.class);
+		String macAddress = deviceInfo.getMacAddress();
+		JsonNode powerStatusResponse = requestByMethod(BarcoE2Constant.METHOD_POWER_STATUS, Collections.emptyMap());
+		PowerStatusDTO powerStatusDTO = (PowerStatusDTO) jsonNodeToDTO(powerStatusResponse.get(macAddress), PowerStatusDTO.class);
+		// the DTOs may be shared with earlier polls through the response cache, they are only read
+		populateDeviceInformationData(stats, deviceInfo, powerStatusDTO, powerStatusResponse.size());
+	}
+
+	/**
+	 * Device Information: Populate data for device information
+	 *
+	 * @param stats Map of statistic
+	 * @param deviceInfo DeviceInfo DTO
+	 * @param powerStatusDTO PowerStatusDTO DTO
+	 * @param connectedUnits number of units in the power status response
+	 */
+	private void populateDeviceInformationData(Map<String, String> stats, DeviceInfo deviceInfo, PowerStatusDTO powerStatusDTO, int connectedUnits) {
+		stats.put(BarcoE2MonitoringMetric.POWER_SUPPLY_1_STATUS.getName(), getPowerStatus(powerStatusDTO.getPowerSupply1Status()));
+		stats.put(BarcoE2MonitoringMetric.POWER_SUPPLY_2_STATUS.getName(), getPowerStatus(powerStatusDTO.getPowerSupply2Status()));
+		stats.put(BarcoE2MonitoringMetric.CONNECTED_UNITS.getName(), String.valueOf(connectedUnits));
+		stats.put(BarcoE2MonitoringMetric.FIRMWARE_VERSION.getName(), deviceInfo.getFrameWareVersion());
+		stats.put(BarcoE2MonitoringMetric.IP_ADDRESS.getName(), deviceInfo.isDhcpMode() ? deviceInfo.getIp() : deviceInfo.getStaticIP());
+		stats.put(BarcoE2MonitoringMetric.DEVICE_NAME.getName(), deviceInfo.getName());
+		stats.put(BarcoE2MonitoringMetric.DEVICE_ID.getName(), deviceInfo.getDeviceId());
+		stats.put(BarcoE2MonitoringMetric.DEVICE_MODEL.getName(), deviceInfo.getFrameTypeName());
+		stats.put(BarcoE2MonitoringMetric.MAC_ADDRESS.getName(), deviceInfo.getMacAddress());
+		stats.put(BarcoE2MonitoringMetric.HOST_NAME.getName(), deviceInfo.getName());
+	}
+
+	/**
+	 * Device Information: Populate None data for device information
+	 *
+	 * @param stats Map of statistic
+	 */
+	private void populateNoneForNullFieldInDeviceInfo(Map<String, String> stats) {
+		stats.put(BarcoE2MonitoringMetric.POWER_SUPPLY_1_STATUS.getName(), BarcoE2Constant.NONE);
+		stats.put(BarcoE2MonitoringMetric.POWER_SUPPLY_2_STATUS.getName(), BarcoE2Constant.NONE);
+		stats.put(BarcoE2MonitoringMetric.CONNECTED_UNITS.getName(), BarcoE2Constant.NONE);
+		stats.put(BarcoE2MonitoringMetric.FIRMWARE_VERSION.getName(), BarcoE2Constant.NONE);
+		stats.put(BarcoE2MonitoringMetric.IP_ADDRESS.getName(), BarcoE2Constant.NONE);
+		stats.put(BarcoE2MonitoringMetric.DEVICE_NAME.getName(), BarcoE2Constant.NONE);
+		stats.put(BarcoE2MonitoringMetric.DEVICE_ID.getName(), BarcoE2Constant.NONE);
+		stats.put(BarcoE2MonitoringMetric.DEVICE_MODEL.getName(), BarcoE2Constant.NONE);
+		stats.put(BarcoE2MonitoringMetric.MAC_ADDRESS.getName(), BarcoE2Constant.NONE);
+		stats.put(BarcoE2MonitoringMetric.HOST_NAME.getName(), BarcoE2Constant.NONE);
+	}
+
+	/**
+	 * Device Information: Convert int power status to String
+	 *
+	 * @param powerSupplyStatus int value of the powerStatus
+	 * @return String This returns the String of power status.
+	 */
+	private String getPowerStatus(int powerSupplyStatus) {
+		String powerStatus = BarcoE2Constant.DOUBLE_QUOTES;
+		if (powerSupplyStatus == PowerStatus.NOT_PRESENT.getCode()) {
+			powerStatus = PowerStatus.NOT_PRESENT.getValue();
+		} else if (powerSupplyStatus == PowerStatus.CABLE_NOT_CONNECTED.getCode()) {
+			powerStatus = PowerStatus.CABLE_NOT_CONNECTED.getValue();
+		} else if (powerSupplyStatus == PowerStatus.NO_DC_CURRENT.getCode()) {
+			powerStatus = PowerStatus.NO_DC_CURRENT.getValue();
+		} else if (powerSupplyStatus == PowerStatus.OK.getCode()) {
+			powerStatus = PowerStatus.OK.getValue();
+		}
+		return powerStatus;
+	}
+
+	/**
+	 * Preset Control: Monitor & control
+	 *
+	 * @param stats Map of statistics
+	 * @param controls List of AdvancedControllableProperty
+	 * @throws Exception Throw exceptions if fail to get JsonNode
+	 */
+	private void getPresetFeedBack(Map<String, String> stats, List<AdvancedControllableProperty> controls) throws Exception {
+		// Generate dropdown options
+		if (presetCatalogue.isExpired()) {
+			refreshPresetCatalogue();
+		}
+		String activePresetResult = getActivePresetName();
+		List<String> dropDownOptions = presetCatalogue.getNames();
+		// Set lastPresetName to first index of dropdown, else lastPresetName = activePresetResult
+		if (BarcoE2Constant.NONE.equals(activePresetResult) && !dropDownOptions.isEmpty()) {
+			lastPresetName = dropDownOptions.get(0);
+		}
+		// Populate data to to monitor/control preset.
+		populatePresetStatsAndControls(stats, controls, dropDownOptions, activePresetResult);
+	}
+
+	/**
+	 * Preset Control: List all presets of the device into the preset catalogue
+	 *
+	 * @throws Exception Throw exception if fail to get JsonNode
+	 */
+	private void refreshPresetCatalogue() throws Exception {
+		Map<Object, Object> presetParam = new HashMap<>();
+		presetParam.put(BarcoE2Constant.ID, BarcoE2Constant.LIST_ALL_DESTINATION_FOR_PRESET);
 		JsonNode response = requestByMethod(BarcoE2Constant.METHOD_LIST_DESTINATIONS_FOR_PRESET, presetParam);
-		List<String> dropDownOptions = new ArrayList<>();
+		if (response == null) {
+			throw new ResourceNotReachableException("Fail to get list of preset");
+		}
+		Map<Integer, String> presets = new LinkedHashMap<>();
 		JsonNode responseNode = response.get(BarcoE2Constant.RESPONSE);
-		if (responseNode != null && responseNode.isEmpty()) {
-			return Collections.emptyList();
+		if (responseNode == null || !responseNode.isEmpty()) {
+			for (int i = 0; i < response.size(); i++) {
+				JsonNode presetNode = response.get(i);
+				JsonNode presetId = presetNode.get(BarcoE2Constant.ID);
+				JsonNode presetName = presetNode.get(BarcoE2Constant.NAME);
+				if (presetId != null && presetName != null) {
+					presets.put(presetId.asInt(), presetName.asText());
+				}
+			}
+		}
+		presetCatalogue.update(presets);
+	}
+
+	/**
+	 * Preset Control: Get current activate preset name
+	 *
+	 * @return This returns a preset name
+	 * @throws Exception Throw exception if fail to get json node
+	 */
+	private String getActivePresetName() throws Exception {
+		JsonNode recallPresetResponse = requestByMethod(BarcoE2Constant.METHOD_LAST_RECALLED_PRESET, Collections.emptyMap());
+		JsonNode response;
+		if (recallPresetResponse.isNumber()) {
+			response = recallPresetResponse;
+		} else {
+			JsonNode recallPresetResponseNode = recallPresetResponse.get(BarcoE2Constant.RESPONSE);
+			if (recallPresetResponseNode != null) {
+				response = recallPresetResponseNode;
+			} else {
+				return BarcoE2Constant.NONE;
+			}
+		}
+		int activePresetIndex = response.asInt();
+		if (activePresetIndex < 0) {
+			return BarcoE2Constant.NONE;
+		}
+		String activePresetResult = presetCatalogue.getName(activePresetIndex);
+		if (activePresetResult == null) {
+			// unknown index: presets were added or removed on the device since the catalogue was listed
+			refreshPresetCatalogue();
+			activePresetResult = presetCatalogue.getName(activePresetIndex);
+		}
+		return activePresetResult == null ? BarcoE2Constant.NONE : activePresetResult;
+	}
+
+	/**
+	 * Preset Control: Populate data for preset
+	 *
+	 * @param stats Map of statistics
+	 * @param controls List of AdvancedControllableProperty
+	 * @param dropDownOptions List of dropdown options
+	 * @param activePresetResult Activate preset name
+	 */
+	private void populatePresetStatsAndControls(Map<String, String> stats, List<AdvancedControllableProperty> controls, List<String> dropDownOptions, String activePresetResult) {
+		if (dropDownOptions.isEmpty()) {
+			stats.put(BarcoE2ControllingMetric.PRESETS_PRESET.getName(), BarcoE2Constant.NONE);
+			stats.put(BarcoE2ControllingMetric.PRESETS_LAST_CALLED_PRESET.getName(), BarcoE2Constant.NONE);
+			return;
+		} else {
+			stats.put(BarcoE2ControllingMetric.PRESETS_PRESET.getName(), activePresetResult);
+			controls.add(createDropdown(BarcoE2ControllingMetric.PRESETS_PRESET.getName(), activePresetResult, dropDownOptions));
+		}
+		stats.put(BarcoE2ControllingMetric.PRESETS_LAST_CALLED_PRESET.getName(), activePresetResult);
+		stats.put(BarcoE2ControllingMetric.PRESETS_PRESET_ACTIVATE.getName(), activePresetResult);
+		controls.add(createButton(BarcoE2ControllingMetric.PRESETS_PRESET_ACTIVATE.getName(),
+				BarcoE2Constant.LABEL_ACTIVATE_ON_PROGRAM, BarcoE2Constant.LABEL_PRESSED_RECALLING_PRESET, BarcoE2Constant.GRACE_PERIOD));
+	}
+
+	/**
+	 * Preset Control: Get the name of the preset to activate, the selected one or the last recalled one the first time
+	 *
+	 * @return name of the preset
+	 * @throws Exception Throw exception if fail to get the last recalled preset
+	 */
+	private String getPresetNameToActivate() throws Exception {
+		if (Objects.equals(lastPresetName, BarcoE2Constant.DOUBLE_QUOTES)) {
+			// first time running
+			String activePresetResult = getActivePresetName();
+			if (!activePresetResult.equals(BarcoE2Constant.NONE)) {
+				return activePresetResult;
+			}
+		}
+		return lastPresetName;
+	}
+
+	/**
+	 * Preset Control: Activate the preset of a recall, then wait for lastRecalledPreset to report it
+	 *
+	 * @param recall the preset recall
+	 */
+	private void recallPreset(PresetRecall recall) {
+		String presetName = recall.getPresetName();
+		try {
+			if (!activatePreset(presetName)) {
+				recall.complete(PresetRecallState.FAILED);
+				logger.error(String.format("Activate %s fail!", presetName));
+				return;
+			}
+			long deadline = recall.getStartedAt() + presetRecallTimeout;
+			while (pendingRecall == recall && System.currentTimeMillis() < deadline) {
+				if (presetName.equals(getActivePresetName())) {
+					recall.complete(PresetRecallState.CONFIRMED);
+					if (logger.isDebugEnabled()) {
+						logger.debug(String.format("Activate %s success in %s ms", presetName, recall.getLatency()));
+					}
+					return;
+				}
+				Thread.sleep(BarcoE2Constant.PRESET_RECALL_CONFIRM_INTERVAL);
+			}
+			recall.complete(PresetRecallState.UNCONFIRMED);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			recall.complete(PresetRecallState.UNCONFIRMED);
+		} catch (Exception e) {
+			recall.complete(PresetRecallState.FAILED);
+			logger.error(String.format("Fail to activate preset %s", presetName), e);
+		}
+	}
+
+	/**
+	 * Preset Control: Populate state and latency of the last preset recall
+	 *
+	 * @param stats Map of statistics
+	 */
+	private void populatePresetRecallStats(Map<String, String> stats) {
+		PresetRecall recall = pendingRecall;
+		if (recall == null) {
+			return;
+		}
+		stats.put(BarcoE2MonitoringMetric.PRESET_RECALL_STATE.getName(), recall.getState().getValue());
+		stats.put(BarcoE2MonitoringMetric.PRESET_RECALL_LATENCY.getName(), String.valueOf(recall.getLatency()));
+	}
+
+	/**
+	 * Preset Control: Activate a preset by name and type
+	 *
+	 * @param presetName name of the preset that need to be activated
+	 * @return boolean type indicates that preset is successfully activated.
+	 * @throws Exception Throw exception when fail to get JsonNode
+	 */
+	private boolean activatePreset(String presetName) throws Exception {
+		// Check if preset is exist, the device is only listed again when the catalogue is expired or doesn't know the name
+		if (presetCatalogue.isExpired() || !presetCatalogue.containsName(presetName)) {
+			refreshPresetCatalogue();
+		}
+		if (!presetCatalogue.containsName(presetName)) {
+			throw new ResourceNotReachableException(String.format("Preset with name: %s not exists", presetName));
+		}
+		// active preset
+		Map<Object, Object> param = new HashMap<>();
+		param.put(BarcoE2Constant.PRESET_NAME, presetName);
+		param.put(BarcoE2Constant.TYPE, BarcoE2Constant.ACTIVE_PRESET_ON_PROGRAM);
+		JsonNode activatePresetResponse = requestByMethod(BarcoE2Constant.METHOD_ACTIVATE_PRESET, param);
+		JsonNode activatePresetSuccessNode = activatePresetResponse.get(BarcoE2Constant.SUCCESS_STATUS);
+		if (activatePresetSuccessNode == null) {
+			presetCatalogue.invalidate();
+			throw new CommandFailureException(this.getAddress(), "activatePreset", "Fail to activatePreset");
+		}
+		return activatePresetSuccessNode.asInt() == 0;
+	}
+
+	/**
+	 * Routing control: Update the source properties value
+	 *
+	 * @param isScreenDest boolean true/false based on screen/aux destination
+	 * @param destContent JsonNode content of the destination
+	 * @param sourceProperties Static class for properties of source
+	 */
+	public void updateSourcePropertiesValue(boolean isScreenDest, JsonNode destContent, SourceProperties sourceProperties) {
+		if (isScreenDest) {
+			updateSourcePropertiesForScreenDest(destContent, sourceProperties);
+		} else {
+			updateSourcePropertiesForAuxDest(destContent, sourceProperties);
+		}
+	}
+
+	/**
+	 * Update source properties for aux destination
+	 *
+	 * @param destContent content of aux destination
+	 * @param sourceProperties SourceProperties class
+	 */
+	private void updateSourcePropertiesForAuxDest(JsonNode destContent, SourceProperties sourceProperties) {
+		if (destContent.get(BarcoE2Constant.PGM_LAST_SRC_INDEX) == null) {
+			return;
 		}
-		for (int i = 0; i < response.size(); i++) {
-			JsonNode responseNodeName = response.get(i);
-			JsonNode destinationName = responseNodeName.get(BarcoE2Constant.NAME);
-			if (destinationName != null) {
-				dropDownOptions.add(destinationName.asText());
+		int lastSrcIndex = destContent.get(BarcoE2Constant.PGM_LAST_SRC_INDEX).asInt();
+		// Assign number of source to 1 because Aux Destination only have 1 source.
+		if (lastSrcIndex == -1) {
+			sourceProperties.currentSourceName = BarcoE2Constant.NONE;
+		} else {
+			sourceProperties.numberOfSource = 1;
+			sourceProperties.currentSourceName = sourceTable.getName(lastSrcIndex);
+		}
+	}
+
+	/**
+	 * Update source properties for screen destination
+	 *
+	 * @param destContent content of screen destination
+	 * @param sourceProperties SourceProperties class
+	 */
+	private void updateSourcePropertiesForScreenDest(JsonNode destContent, SourceProperties sourceProperties) {
+		JsonNode layers = destContent.get(BarcoE2Constant.LAYERS);
+		SourceTable sources = sourceTable;
+		int numberOfSource = 0;
+		int firstSourceIndex = -1;
+		for (int j = 0; j < layers.size(); j++) {
+			JsonNode currentLayerNode = layers.get(j);
+			if (currentLayerNode == null) {
+				continue;
 			}
+			int sourceIndex = currentLayerNode.get(BarcoE2Constant.LAST_SRC_IDX).asInt();
+			int pgmMode = currentLayerNode.get(BarcoE2Constant.PGM_MODE).asInt();
+			int linkDestId = currentLayerNode.get(BarcoE2Constant.LINK_DEST_ID).asInt();
+			if (sourceIndex != -1 && pgmMode == 1 && sources.getName(sourceIndex) != null && linkDestId == -1) {
+				if (numberOfSource++ == 0) {
+					firstSourceIndex = sourceIndex;
+				}
+			}
+		}
+		sourceProperties.numberOfSource = numberOfSource;
+		if (numberOfSource > 0) {
+			sourceProperties.currentSourceName = sources.getName(firstSourceIndex);
+		} else {
+			sourceProperties.currentSourceName = BarcoE2Constant.NONE;
 		}
-		return dropDownOptions;
 	}
 
 	/**
-	 * Preset Control: Get current activate preset name
+	 * Routing control: Screen + Aux Destination
 	 *
-	 * @return This returns a preset name
+	 * @param isScreenDest True: "ScreenDestination", false: "AuxDestination"
+	 * @param controls List of AdvancedControllableProperty
+	 * @param stats Map of statistics
 	 * @throws Exception Throw exception if fail to get json node
 	 */
-	private String getActivePresetName() throws Exception {
-		JsonNode recallPresetResponse = requestByMethod(BarcoE2Constant.METHOD_LAST_RECALLED_PRESET, new HashMap<>());
-		JsonNode response;
-		if (recallPresetResponse.isNumber()) {
-			response = recallPresetResponse;
-		} else {
-			JsonNode recallPresetResponseNode = recallPresetResponse.get(BarcoE2Constant.RESPONSE);
-			if (recallPresetResponseNode != null) {
-				response = recallPresetResponseNode;
-			} else {
-				return BarcoE2Constant.NONE;
-			}
+	private void getRoutingControl(boolean isScreenDest, Map<String, String> stats, List<AdvancedControllableProperty> controls) throws Exception {
+		String methodName = isScreenDest ? BarcoE2Constant.SCREEN_DESTINATION : BarcoE2Constant.AUX_DESTINATION;
+		JsonNode response = getRoutingControlJsonNode(methodName);
+		if (response == null) {
+			return;
 		}
-		String activePresetResult;
-		int activePresetIndex = response.asInt();
-		Map<Object, Object> presetParam = new HashMap<>();
-		presetParam.put(BarcoE2Constant.ID, activePresetIndex);
-		JsonNode presetResponse = requestByMethod(BarcoE2Constant.METHOD_LIST_DESTINATIONS_FOR_PRESET, presetParam);
-		if (presetResponse == null) {
-			return BarcoE2Constant.NONE;
+		if (isScreenDest) {
+			layerGeometryTable.updateDestinations(toDimensionMap(response));
 		}
-		JsonNode presetResponseStatus = presetResponse.get(BarcoE2Constant.SUCCESS);
-		if (presetResponseStatus != null && presetResponseStatus.asInt() != 0) {
-			// error message from the device
-			JsonNode presetRes = response.get(BarcoE2Constant.RESPONSE);
-			if (logger.isDebugEnabled() && presetRes != null) {
-				logger.debug(presetRes);
+		// Screen/Aux dest loop
+		for (int i = 0; i < response.size(); i++) {
+			JsonNode currentDestContent = response.get(i);
+			if (currentDestContent == null || currentDestContent.get(BarcoE2Constant.ID) == null || currentDestContent.get(BarcoE2Constant.NAME) == null) {
+				continue;
 			}
-			return BarcoE2Constant.NONE;
+			String screenDestName = currentDestContent.get(BarcoE2Constant.NAME).asText();
+			JsonNode destContent = getDestContent(isScreenDest, response, i);
+			String groupType = isScreenDest ? BarcoE2ControllingMetric.SCREEN_DESTINATIONS.getName() : BarcoE2ControllingMetric.AUX_DESTINATIONS.getName();
+			if (isScreenDest) {
+				JsonNode layerNode = destContent.get(BarcoE2Constant.LAYERS);
+				if (layerNode == null) {
+					continue;
+				}
+				int firstNormalLayerIndex = updateLayerLayout(currentDestContent.get(BarcoE2Constant.ID).asInt(), layerNode).getFirstNormalLayerIndex();
+				if (firstNormalLayerIndex == -1) {
+					stats.put(String.format(BarcoE2Constant.GROUP_HASH_TAG_MEMBER, groupType, screenDestName), BarcoE2Constant.NOT_FOUND_LAYER);
+					continue;
+				}
+			}
+			updateRoutingMatrix(isScreenDest, currentDestContent.get(BarcoE2Constant.ID).asInt(), destContent);
+			SourceProperties sourceProperties = new SourceProperties();
+			updateSourcePropertiesValue(isScreenDest, destContent, sourceProperties);
+			cacheRoutedSource(getDestinationKey(isScreenDest, screenDestName), sourceProperties);
+			List<String> sourceList = sourceTable.getSortedNames();
+			populateRouting(stats, groupType, screenDestName, sourceProperties.currentSourceName, sourceList, controls, sourceProperties.numberOfSource);
 		}
-		JsonNode presetRes = presetResponse.get(BarcoE2Constant.RESPONSE);
-		if (presetRes != null && presetRes.isEmpty() && presetResponse.get(BarcoE2Constant.NAME) == null) {
-			return BarcoE2Constant.NONE;
+	}
+
+	/**
+	 * Update the layer layout of a screen destination, the layers are only analysed again when their names or links changed
+	 *
+	 * @param destId screen destination id
+	 * @param layerNode layers of the screen destination
+	 * @return the layer layout
+	 */
+	private LayerLayout updateLayerLayout(int destId, JsonNode layerNode) {
+		return layerLayoutByDestId.compute(destId, (id, currentLayout) -> LayerLayout.of(layerNode, currentLayout));
+	}
+
+	/**
+	 * Routing control: Get JsonNode destination content
+	 *
+	 * @param isScreenDest boolean for Screen/Aux destination
+	 * @param response Input JsonNode
+	 * @param index The index of destination in the loop
+	 * @return This returns the destination content JsonNode
+	 * @throws Exception Throw exception if fail to get content of destination
+	 */
+	private JsonNode getDestContent(boolean isScreenDest, JsonNode response, int index) throws Exception {
+		int destId = response.get(index).get(BarcoE2Constant.ID).asInt();
+		if (isScreenDest) {
+			return getScreenDestContent(destId);
 		}
-		activePresetResult = presetResponse.get(BarcoE2Constant.NAME).asText();
-		return activePresetResult;
+		return getAuxDestContent(destId);
 	}
 
 	/**
-	 * Preset Control: Populate data for preset
+	 * Get Aux Destination content
 	 *
-	 * @param stats Map of statistics
-	 * @param controls List of AdvancedControllableProperty
-	 * @param dropDownOptions List of dropdown options
-	 * @param activePresetResult Activate preset name
+	 * @param destId Aux destination id
+	 * @return JsonNode
+	 * @throws Exception Throw exception if fail to get Aux Content
 	 */
-	private void populatePresetStatsAndControls(Map<String, String> stats, List<AdvancedControllableProperty> controls, List<String> dropDownOptions, String activePresetResult) {
-		if (dropDownOptions.isEmpty()) {
-			stats.put(BarcoE2ControllingMetric.PRESETS_PRESET.getName(), BarcoE2Constant.NONE);
-			stats.put(BarcoE2ControllingMetric.PRESETS_LAST_CALLED_PRESET.getName(), BarcoE2Constant.NONE);
-			return;
+	private JsonNode getAuxDestContent(int destId) throws Exception {
+		Map<Object, Object> destParams = new HashMap<>();
+		destParams.put(BarcoE2Constant.ID, destId);
+		return requestByMethod(BarcoE2Constant.METHOD_LIST_AUX_CONTENT, destParams);
+	}
+
+	/**
+	 * Get Screen Destination content
+	 *
+	 * @param destId Screen destination id
+	 * @return JsonNode
+	 * @throws Exception Throw exception if fail to get Screen Dest Content
+	 */
+	private JsonNode getScreenDestContent(int destId) throws Exception {
+		Map<Object, Object> destParams = new HashMap<>();
+		destParams.put(BarcoE2Constant.ID, destId);
+		return requestByMethod(BarcoE2Constant.METHOD_LIST_CONTENT, destParams);
+	}
+
+	/**
+	 * Routing control: Get routing control json node based on Screen/Aux Destination
+	 *
+	 * @param methodName Screen/Aux Destination name
+	 * @return This returns the JsonNode
+	 * @throws Exception Throw exception if fail to get list of destination
+	 */
+	private JsonNode getRoutingControlJsonNode(String methodName) throws Exception {
+		Map<Object, Object> params = new HashMap<>();
+		params.put(BarcoE2Constant.TYPE, BarcoE2Constant.SHOW_ALL_DESTINATION);
+		JsonNode response = requestByMethod(BarcoE2Constant.METHOD_LIST_DESTINATIONS, params);
+		// Check if node is null
+		if (!NullNode.instance.equals(response.get(methodName)) && response.get(methodName) != null && response.get(methodName).size() != 0) {
+			return requestByMethod(BarcoE2Constant.METHOD_LIST_DESTINATIONS, params).get(methodName);
 		} else {
-			stats.put(BarcoE2ControllingMetric.PRESETS_PRESET.getName(), activePresetResult);
-			controls.add(createDropdown(BarcoE2ControllingMetric.PRESETS_PRESET.getName(), activePresetResult, dropDownOptions));
+			return null;
 		}
-		stats.put(BarcoE2ControllingMetric.PRESETS_LAST_CALLED_PRESET.getName(), activePresetResult);
-		stats.put(BarcoE2ControllingMetric.PRESETS_PRESET_ACTIVATE.getName(), activePresetResult);
-		controls.add(createButton(BarcoE2ControllingMetric.PRESETS_PRESET_ACTIVATE.getName(),
-				BarcoE2Constant.LABEL_ACTIVATE_ON_PROGRAM, BarcoE2Constant.LABEL_PRESSED_RECALLING_PRESET, BarcoE2Constant.GRACE_PERIOD));
 	}
 
 	/**
-	 * Preset Control: Activate the preset
+	 * Routing control: Get all sources of the device.
 	 *
-	 * @return Boolean this returns true/false based on the result of activating preset
+	 * @return A table of the source names by source id.
 	 */
-	private boolean activatePresetResult() {
-		try {
-			boolean result;
-			if (Objects.equals(lastPresetName, BarcoE2Constant.DOUBLE_QUOTES)) {
-				// first time running
-				String activePresetResult = getActivePresetName();
-				if (activePresetResult.equals(BarcoE2Constant.NONE)) {
-					result = activatePreset(lastPresetName);
-				} else {
-					result = activatePreset(activePresetResult);
-				}
-			} else {
-				result = activatePreset(lastPresetName);
+	private SourceTable listSourceTable() throws Exception {
+		JsonNode response = requestByMethod(BarcoE2Constant.METHOD_LIST_SOURCES, Collections.emptyMap());
+		if (response == null) {
+			throw new ResourceNotReachableException("Cannot get list of source");
+		}
+		layerGeometryTable.updateSources(toDimensionMap(response));
+		// source ids of the device are dense, the names are stored by id
+		String[] namesById = new String[0];
+		for (int i = 0; i < response.size(); i++) {
+			JsonNode sourceResponse = response.get(i);
+			JsonNode sourceNameNode = sourceResponse.get(BarcoE2Constant.NAME);
+			JsonNode sourceIdNode = sourceResponse.get(BarcoE2Constant.ID);
+			if (sourceNameNode == null || sourceIdNode == null || sourceIdNode.asInt() < 0) {
+				continue;
 			}
-			return result;
-		} catch (Exception e) {
-			throw new CommandFailureException(this.getAddress(), "activatePreset", "Fail to activate preset", e);
+			int sourceId = sourceIdNode.asInt();
+			if (sourceId >= namesById.length) {
+				namesById = Arrays.copyOf(namesById, Math.max(sourceId + 1, response.size()));
+			}
+			namesById[sourceId] = sourceNameNode.asText();
 		}
+		SourceTable listedSourceTable = new SourceTable(namesById);
+		if (listedSourceTable.isEmpty()) {
+			throw new ResourceNotReachableException("Cannot get list of source");
+		}
+		return listedSourceTable;
 	}
 
 	/**
-	 * Preset Control: Activate a preset by name and type
+	 * Routing control: Populate monitoring/controlling data for screen/aux destination
 	 *
-	 * @param presetName name of the preset that need to be activated
-	 * @return boolean type indicates that preset is successfully activated.
-	 * @throws Exception Throw exception when fail to get JsonNode
+	 * @param methodName Type of the destination (ScreenDestination/AuxDestination)
+	 * @param screenDestName Name of the destination
+	 * @param currentSourceName Current source name
+	 * @param sourceList List of sources
+	 * @param controls List of AdvancedControllableProperty
+	 * @param numberOfSource Number of sources that are assigned to this destination
 	 */
-	private boolean activatePreset(String presetName) throws Exception {
-		// Check if preset is exist
-		Map<Object, Object> presetParam = new HashMap<>();
-		presetParam.put(BarcoE2Constant.ID, BarcoE2Constant.LIST_ALL_DESTINATION_FOR_PRESET);
-		JsonNode allPreset = requestByMethod(BarcoE2Constant.METHOD_LIST_DESTINATIONS_FOR_PRESET, presetParam);
-		if (allPreset == null) {
-			throw new ResourceNotReachableException("Fail to get list of preset");
+	private void populateRouting(Map<String, String> stats, String methodName, String screenDestName, String currentSourceName,
+			List<String> sourceList, List<AdvancedControllableProperty> controls, int numberOfSource) {
+		stats.put(String.format(BarcoE2Constant.GROUP_HASH_TAG_MEMBER, methodName, screenDestName), currentSourceName);
+		controls.add(createDropdown(String.format(BarcoE2Constant.GROUP_HASH_TAG_MEMBER, methodName, screenDestName), currentSourceName, sourceList));
+		if (numberOfSource > 1) {
+			stats.put(String.format("%s#%s%s", methodName, screenDestName, BarcoE2Constant.DESTINATION_STATUS), BarcoE2Constant.DESTINATION_MIXED);
 		}
-		boolean presetStatus = false;
-		for (int i = 0; i < allPreset.size(); i++) {
-			if (allPreset.get(i) != null) {
-				JsonNode presetNameNode = allPreset.get(i).get(BarcoE2Constant.NAME);
-				if (presetNameNode != null && presetNameNode.asText().equals(presetName)) {
-					presetStatus = true;
-					break;
-				}
-			}
+	}
+
+	/**
+	 * Routing control: Key of a destination, shared by the routing state cache and the command queue
+	 *
+	 * @param isScreenDest boolean true/false based on screen/aux destination
+	 * @param destName name of the destination
+	 * @return key of the destination
+	 */
+	private String getDestinationKey(boolean isScreenDest, String destName) {
+		return String.format(isScreenDest ? BarcoE2Constant.SCREEN_COMMAND_KEY : BarcoE2Constant.AUX_COMMAND_KEY, destName);
+	}
+
+	/**
+	 * Routing control: Remember the source on program of a destination, a mixed destination is not cached
+	 *
+	 * @param destinationKey key of the destination
+	 * @param sourceProperties source properties of the destination
+	 */
+	private void cacheRoutedSource(String destinationKey, SourceProperties sourceProperties) {
+		if (sourceProperties.numberOfSource <= 1 && !BarcoE2Constant.DOUBLE_QUOTES.equals(sourceProperties.currentSourceName)) {
+			routedSourceByDestination.put(destinationKey, sourceProperties.currentSourceName);
+		} else {
+			routedSourceByDestination.remove(destinationKey);
 		}
-		if (!presetStatus) {
-			throw new ResourceNotReachableException(String.format("Preset with name: %s not exists", presetName));
+	}
+
+	/**
+	 * Routing control: Check the routing state of the last poll, a route that is already on program is skipped
+	 *
+	 * @param destinationKey key of the destination
+	 * @param sourceName name of the requested source
+	 * @return true if the destination already shows the source
+	 */
+	private boolean isRoutedInCache(String destinationKey, String sourceName) {
+		if (RoutingNoOpCheck.getByName(routingNoOpCheck) != RoutingNoOpCheck.CACHED || !Objects.equals(sourceName, routedSourceByDestination.get(destinationKey))) {
+			return false;
 		}
-		// active preset
-		Map<Object, Object> param = new HashMap<>();
-		param.put(BarcoE2Constant.PRESET_NAME, presetName);
-		param.put(BarcoE2Constant.TYPE, BarcoE2Constant.ACTIVE_PRESET_ON_PROGRAM);
-		JsonNode activatePresetResponse = requestByMethod(BarcoE2Constant.METHOD_ACTIVATE_PRESET, param);
-		JsonNode activatePresetSuccessNode = activatePresetResponse.get(BarcoE2Constant.SUCCESS_STATUS);
-		if (activatePresetSuccessNode == null) {
-			throw new CommandFailureException(this.getAddress(), "activatePreset", "Fail to activatePreset");
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("%s already shows %s, skipping the route", destinationKey, sourceName));
 		}
-		return activatePresetSuccessNode.asInt() == 0;
+		return true;
 	}
 
 	/**
-	 * Routing control: Update the source properties value
+	 * Routing control: Check the content read from the device, a route that is already on program is skipped
 	 *
 	 * @param isScreenDest boolean true/false based on screen/aux destination
-	 * @param destContent JsonNode content of the destination
-	 * @param sourceProperties Static class for properties of source
+	 * @param destinationKey key of the destination
+	 * @param destContent content of the destination
+	 * @param sourceName name of the requested source
+	 * @return true if the destination already shows the source
 	 */
-	public void updateSourcePropertiesValue(boolean isScreenDest, JsonNode destContent, SourceProperties sourceProperties) {
-		if (isScreenDest) {
-			updateSourcePropertiesForScreenDest(destContent, sourceProperties);
+	private boolean isRouted(boolean isScreenDest, String destinationKey, JsonNode destContent, String sourceName) {
+		if (destContent == null || (isScreenDest && destContent.get(BarcoE2Constant.LAYERS) == null)) {
+			return false;
+		}
+		SourceProperties sourceProperties = new SourceProperties();
+		updateSourcePropertiesValue(isScreenDest, destContent, sourceProperties);
+		cacheRoutedSource(destinationKey, sourceProperties);
+		boolean isRouted = sourceProperties.numberOfSource <= 1 && Objects.equals(sourceName, sourceProperties.currentSourceName);
+		if (isRouted && logger.isDebugEnabled()) {
+			logger.debug(String.format("%s already shows %s, skipping the route", destinationKey, sourceName));
+		}
+		return isRouted;
+	}
+
+	/**
+	 * Re-read a single destination and patch its routing in the cached statistics, without a full poll.
+	 * A super destination refreshes every destination it contains.
+	 *
+	 * @param group ScreenDestinations, AuxDestinations, SuperDestination or SuperAuxDestination
+	 * @param destName name of the destination or super destination
+	 * @throws Exception Throw exception when fail to get content of the destination
+	 */
+	public void refreshDestination(BarcoE2ControllingMetric group, String destName) throws Exception {
+		switch (group) {
+			case SCREEN_DESTINATIONS:
+				readBackDestination(true, destName);
+				break;
+			case AUX_DESTINATIONS:
+				readBackDestination(false, destName);
+				break;
+			case SUPER_SCREEN_DESTINATION:
+				refreshSuperDestination(true, destName);
+				break;
+			case SUPER_AUX_DESTINATION:
+				refreshSuperDestination(false, destName);
+				break;
+			default:
+				throw new IllegalArgumentException(String.format("%s is not a destination group", group.getName()));
+		}
+	}
+
+	/**
+	 * controlProperty: Refresh the destination selected in the Refresh#Destination dropdown
+	 *
+	 * @param destinationKey option of the dropdown, key of the destination
+	 * @throws Exception when fail to refresh the destination
+	 */
+	private void controlRefreshDestination(String destinationKey) throws Exception {
+		int separatorIndex = destinationKey.indexOf(BarcoE2Constant.COLON);
+		if (separatorIndex == -1) {
+			throw new IllegalArgumentException(String.format("Destination %s is not supported.", destinationKey));
+		}
+		String destName = destinationKey.substring(separatorIndex + 1);
+		String keyFormat = destinationKey.substring(0, separatorIndex + 1) + "%s";
+		BarcoE2ControllingMetric group;
+		if (BarcoE2Constant.SCREEN_COMMAND_KEY.equals(keyFormat)) {
+			group = BarcoE2ControllingMetric.SCREEN_DESTINATIONS;
+		} else if (BarcoE2Constant.AUX_COMMAND_KEY.equals(keyFormat)) {
+			group = BarcoE2ControllingMetric.AUX_DESTINATIONS;
+		} else if (BarcoE2Constant.SUPER_DESTINATION_KEY.equals(keyFormat)) {
+			group = BarcoE2ControllingMetric.SUPER_SCREEN_DESTINATION;
+		} else if (BarcoE2Constant.SUPER_AUX_DESTINATION_KEY.equals(keyFormat)) {
+			group = BarcoE2ControllingMetric.SUPER_AUX_DESTINATION;
 		} else {
-			updateSourcePropertiesForAuxDest(destContent, sourceProperties);
+			throw new IllegalArgumentException(String.format("Destination %s is not supported.", destinationKey));
+		}
+		try {
+			refreshDestination(group, destName);
+		} catch (Exception e) {
+			if (e instanceof ResourceNotReachableException || e instanceof CommandFailureException) {
+				throw e;
+			}
+			throw new CommandFailureException(this.getAddress(), "refresh destination", String.format("Fail to refresh destination %s", destName), e);
 		}
 	}
 
 	/**
-	 * Update source properties for aux destination
+	 * Routing control: Re-read every destination of a super destination
 	 *
-	 * @param destContent content of aux destination
-	 * @param sourceProperties SourceProperties class
+	 * @param isSuperDest boolean true/false based on super destination/ super aux destination
+	 * @param superName name of the super destination
+	 * @throws Exception Throw exception when fail to get content of the destinations
 	 */
-	private void updateSourcePropertiesForAuxDest(JsonNode destContent, SourceProperties sourceProperties) {
-		if (destContent.get(BarcoE2Constant.PGM_LAST_SRC_INDEX) == null) {
-			return;
-		}
-		int lastSrcIndex = destContent.get(BarcoE2Constant.PGM_LAST_SRC_INDEX).asInt();
-		// Assign number of source to 1 because Aux Destination only have 1 source.
-		if (lastSrcIndex == -1) {
-			sourceProperties.currentSourceName = BarcoE2Constant.NONE;
-		} else {
-			sourceProperties.numberOfSource = 1;
-			sourceProperties.currentSourceName = sourceIdToNameMap.get(lastSrcIndex);
+	private void refreshSuperDestination(boolean isSuperDest, String superName) throws Exception {
+		for (Integer superId : isSuperDest ? listSuperDestId : listSuperAuxId) {
+			JsonNode response = getSuperDestContent(isSuperDest, String.valueOf(superId));
+			if (response == null) {
+				continue;
+			}
+			JsonNode successStatusNode = response.get(BarcoE2Constant.SUCCESS_STATUS);
+			if (successStatusNode != null && successStatusNode.asInt() == -1) {
+				continue;
+			}
+			if (isSuperDest) {
+				SuperDestination superDestination = (SuperDestination) jsonNodeToDTO(response, SuperDestination.class);
+				if (superName.equals(superDestination.getName())) {
+					for (String destName : superDestination.getListScreenDestName()) {
+						readBackDestination(true, destName);
+					}
+					return;
+				}
+			} else {
+				SuperAuxDestination superAuxDestination = (SuperAuxDestination) jsonNodeToDTO(response, SuperAuxDestination.class);
+				if (superName.equals(superAuxDestination.getName())) {
+					for (AuxDestination auxDestination : superAuxDestination.getAuxDestinationList()) {
+						readBackDestination(false, auxDestination.getName());
+					}
+					return;
+				}
+			}
 		}
+		throw new ResourceNotReachableException(String.format("Not found super destination with name %s", superName));
 	}
 
 	/**
-	 * Update source properties for screen destination
+	 * Routing control: Populate the dropdown used to refresh a single destination, one option per routed destination
 	 *
-	 * @param destContent content of screen destination
-	 * @param sourceProperties SourceProperties class
+	 * @param stats Map of statistics
+	 * @param controls List of AdvancedControllableProperty
 	 */
-	private void updateSourcePropertiesForScreenDest(JsonNode destContent, SourceProperties sourceProperties) {
-		JsonNode layers = destContent.get(BarcoE2Constant.LAYERS);
-		List<Integer> listSourceIndexes = new ArrayList<>();
-		for (int j = 0; j < layers.size(); j++) {
-			JsonNode currentLayerNode = layers.get(j);
-			if (currentLayerNode == null) {
+	private void populateRefreshControl(Map<String, String> stats, List<AdvancedControllableProperty> controls) {
+		Map<String, Set<String>> commandKeysByOption = new TreeMap<>();
+		for (AdvancedControllableProperty control : controls) {
+			String name = control.getName();
+			int hashTagIndex = name.indexOf(BarcoE2Constant.HASH_TAG);
+			if (hashTagIndex == -1) {
 				continue;
 			}
-			int sourceIndex = currentLayerNode.get(BarcoE2Constant.LAST_SRC_IDX).asInt();
-			int pgmMode = currentLayerNode.get(BarcoE2Constant.PGM_MODE).asInt();
-			int linkDestId = currentLayerNode.get(BarcoE2Constant.LINK_DEST_ID).asInt();
-			if (sourceIndex != -1 && pgmMode == 1 && sourceIdToNameMap.get(sourceIndex) != null && linkDestId == -1) {
-				listSourceIndexes.add(sourceIndex);
+			String group = name.substring(0, hashTagIndex);
+			String member = name.substring(hashTagIndex + 1);
+			if (BarcoE2ControllingMetric.SCREEN_DESTINATIONS.getName().equals(group)) {
+				String commandKey = String.format(BarcoE2Constant.SCREEN_COMMAND_KEY, member);
+				commandKeysByOption.computeIfAbsent(commandKey, key -> new LinkedHashSet<>()).add(commandKey);
+			} else if (BarcoE2ControllingMetric.AUX_DESTINATIONS.getName().equals(group)) {
+				String commandKey = String.format(BarcoE2Constant.AUX_COMMAND_KEY, member);
+				commandKeysByOption.computeIfAbsent(commandKey, key -> new LinkedHashSet<>()).add(commandKey);
+			} else if (group.startsWith(BarcoE2ControllingMetric.SUPER_SCREEN_DESTINATION.getName() + BarcoE2Constant.COLON)) {
+				// the routes of a member are queued under the key of the member
+				commandKeysByOption.computeIfAbsent(String.format(BarcoE2Constant.SUPER_DESTINATION_KEY, group.substring(group.indexOf(BarcoE2Constant.COLON) + 1)), key -> new LinkedHashSet<>())
+						.add(String.format(BarcoE2Constant.SCREEN_COMMAND_KEY, member));
+			} else if (group.startsWith(BarcoE2ControllingMetric.SUPER_AUX_DESTINATION.getName() + BarcoE2Constant.COLON)) {
+				commandKeysByOption.computeIfAbsent(String.format(BarcoE2Constant.SUPER_AUX_DESTINATION_KEY, group.substring(group.indexOf(BarcoE2Constant.COLON) + 1)), key -> new LinkedHashSet<>())
+						.add(String.format(BarcoE2Constant.AUX_COMMAND_KEY, member));
 			}
 		}
-		sourceProperties.numberOfSource = listSourceIndexes.size();
-		if (!listSourceIndexes.isEmpty()) {
-			sourceProperties.currentSourceName = sourceIdToNameMap.get(listSourceIndexes.get(0));
-		} else {
-			sourceProperties.currentSourceName = BarcoE2Constant.NONE;
+		refreshCommandKeysByOption = commandKeysByOption;
+		if (commandKeysByOption.isEmpty()) {
+			return;
 		}
+		List<String> options = new ArrayList<>();
+		options.add(BarcoE2Constant.NONE);
+		options.addAll(commandKeysByOption.keySet());
+		stats.put(BarcoE2ControllingMetric.REFRESH_DESTINATION.getName(), BarcoE2Constant.NONE);
+		controls.add(createDropdown(BarcoE2ControllingMetric.REFRESH_DESTINATION.getName(), BarcoE2Constant.NONE, options));
 	}
 
 	/**
-	 * Routing control: Screen + Aux Destination
+	 * Routing control: Write a successful route through to the routing state cache, the last poll and the last known good values,
+	 * then schedule a read-back of the destination when {@link #routingReadBackDelay} is set
 	 *
-	 * @param isScreenDest True: "ScreenDestination", false: "AuxDestination"
-	 * @param controls List of AdvancedControllableProperty
-	 * @param stats Map of statistics
-	 * @throws Exception Throw exception if fail to get json node
+	 * @param isScreenDest boolean true/false based on screen/aux destination
+	 * @param destName name of the destination
+	 * @param sourceName name of the source now on program
 	 */
-	private void getRoutingControl(boolean isScreenDest, Map<String, String> stats, List<AdvancedControllableProperty> controls) throws Exception {
-		String methodName = isScreenDest ? BarcoE2Constant.SCREEN_DESTINATION : BarcoE2Constant.AUX_DESTINATION;
-		JsonNode response = getRoutingControlJsonNode(methodName);
-		if (response == null) {
+	private void writeThroughRoute(boolean isScreenDest, String destName, String sourceName) {
+		SourceProperties sourceProperties = new SourceProperties();
+		sourceProperties.currentSourceName = sourceName;
+		sourceProperties.numberOfSource = BarcoE2Constant.NONE.equals(sourceName) ? 0 : 1;
+		updateCachedRoute(isScreenDest, destName, sourceProperties);
+		ScheduledExecutorService executor = revalidationExecutor;
+		if (routingReadBackDelay <= 0 || executor == null) {
 			return;
 		}
-		// Screen/Aux dest loop
-		for (int i = 0; i < response.size(); i++) {
-			JsonNode currentDestContent = response.get(i);
-			if (currentDestContent == null || currentDestContent.get(BarcoE2Constant.ID) == null || currentDestContent.get(BarcoE2Constant.NAME) == null) {
-				continue;
-			}
-			String screenDestName = currentDestContent.get(BarcoE2Constant.NAME).asText();
-			JsonNode destContent = getDestContent(isScreenDest, response, i);
-			String groupType = isScreenDest ? BarcoE2ControllingMetric.SCREEN_DESTINATIONS.getName() : BarcoE2ControllingMetric.AUX_DESTINATIONS.getName();
-			if (isScreenDest) {
-				JsonNode layerNode = destContent.get(BarcoE2Constant.LAYERS);
-				if (layerNode == null) {
-					continue;
-				}
-				int firstNormalLayerIndex = -1;
-				firstNormalLayerIndex = getFirstNormalLayerIndex(layerNode, firstNormalLayerIndex);
-				if (firstNormalLayerIndex == -1) {
-					stats.put(String.format(BarcoE2Constant.GROUP_HASH_TAG_MEMBER, groupType, screenDestName), BarcoE2Constant.NOT_FOUND_LAYER);
-					continue;
+		try {
+			executor.schedule(() -> {
+				try {
+					readBackDestination(isScreenDest, destName);
+				} catch (Exception e) {
+					if (logger.isDebugEnabled()) {
+						logger.debug(String.format("Fail to read back destination %s", destName), e);
+					}
 				}
+			}, routingReadBackDelay, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Fail to schedule read back of destination %s", destName), e);
 			}
-			SourceProperties sourceProperties = new SourceProperties();
-			updateSourcePropertiesValue(isScreenDest, destContent, sourceProperties);
-			List<String> sourceList = new ArrayList<>(sourceIdToNameMap.values());
-			populateRouting(stats, groupType, screenDestName, sourceProperties.currentSourceName, sourceList, controls, sourceProperties.numberOfSource);
 		}
 	}
 
 	/**
-	 * Get first normal layer index
+	 * Routing control: Read the content of one destination and update the cached routing of it
 	 *
-	 * @param layerNode JsonNode
-	 * @param firstNormalLayerIndex normal layer index
-	 * @return layer index
+	 * @param isScreenDest boolean true/false based on screen/aux destination
+	 * @param destName name of the destination
+	 * @throws Exception Throw exception when fail to get content of the destination
 	 */
-	private int getFirstNormalLayerIndex(JsonNode layerNode, int firstNormalLayerIndex) {
-		for (int j = 0; j < layerNode.size(); j++) {
-			JsonNode currentLayerNode = layerNode.get(j);
-			JsonNode linkDestIdNode = currentLayerNode.get(BarcoE2Constant.LINK_DEST_ID);
-			if (linkDestIdNode == null) {
-				throw new ResourceNotReachableException(String.format("Cannot get layer at index %s", j));
-			}
-			if (linkDestIdNode.asInt() == -1) {
-				firstNormalLayerIndex = j;
-				break;
-			}
+	private void readBackDestination(boolean isScreenDest, String destName) throws Exception {
+		int destId = isScreenDest ? getCurrentScreenDestId(destName) : getCurrentAuxDestId(destName);
+		if (destId == BarcoE2Constant.NOT_MATCH_SCREEN_ID) {
+			throw new ResourceNotReachableException(String.format("Not found destination with name %s", destName));
 		}
-		return firstNormalLayerIndex;
+		JsonNode destContent = isScreenDest ? getScreenDestContent(destId) : getAuxDestContent(destId);
+		if (destContent == null || (isScreenDest && (destContent.get(BarcoE2Constant.LAYERS) == null || updateLayerLayout(destId, destContent.get(BarcoE2Constant.LAYERS)).getFirstNormalLayerIndex() == -1))) {
+			return;
+		}
+		updateRoutingMatrix(isScreenDest, destId, destContent);
+		SourceProperties sourceProperties = new SourceProperties();
+		updateSourcePropertiesValue(isScreenDest, destContent, sourceProperties);
+		updateCachedRoute(isScreenDest, destName, sourceProperties);
 	}
 
 	/**
-	 * Routing control: Get JsonNode destination content
+	 * Routing control: Update the routing matrix with the content of one destination
 	 *
-	 * @param isScreenDest boolean for Screen/Aux destination
-	 * @param response Input JsonNode
-	 * @param index The index of destination in the loop
-	 * @return This returns the destination content JsonNode
-	 * @throws Exception Throw exception if fail to get content of destination
+	 * @param isScreenDest boolean true/false based on screen/aux destination
+	 * @param destId id of the destination
+	 * @param destContent content of the destination
 	 */
-	private JsonNode getDestContent(boolean isScreenDest, JsonNode response, int index) throws Exception {
-		int destId = response.get(index).get(BarcoE2Constant.ID).asInt();
+	private void updateRoutingMatrix(boolean isScreenDest, int destId, JsonNode destContent) {
 		if (isScreenDest) {
-			return getScreenDestContent(destId);
+			JsonNode layerNode = destContent.get(BarcoE2Constant.LAYERS);
+			LayerLayout layerLayout = updateLayerLayout(destId, layerNode);
+			routingMatrix.updateScreenDestination(destId, layerNode, layerLayout.isMixedLayer(layerLayout.getFirstNormalLayerIndex()));
+		} else {
+			routingMatrix.updateAuxDestination(destId, destContent.path(BarcoE2Constant.PGM_LAST_SRC_INDEX).asInt(RoutingMatrix.NO_SOURCE),
+					destContent.path(BarcoE2Constant.PVM_LAST_SRC_INDEX).asInt(RoutingMatrix.NO_SOURCE));
 		}
-		return getAuxDestContent(destId);
 	}
 
 	/**
-	 * Get Aux Destination content
+	 * Routing control: Populate the program/preview tally of each source from the counters of the routing matrix.
+	 * The tally statistics are only built again when the routing matrix or the sources changed.
+	 * The cache is guarded by its own monitor so that building it never waits for a control holding the communicator's monitor.
 	 *
-	 * @param destId Aux destination id
-	 * @return JsonNode
-	 * @throws Exception Throw exception if fail to get Aux Content
+	 * @param stats Map of statistics
 	 */
-	private JsonNode getAuxDestContent(int destId) throws Exception {
-		Map<Object, Object> destParams = new HashMap<>();
-		destParams.put(BarcoE2Constant.ID, destId);
-		return requestByMethod(BarcoE2Constant.METHOD_LIST_AUX_CONTENT, destParams);
+	private void populateTallyStats(Map<String, String> stats) {
+		if (!tallyStatistics) {
+			return;
+		}
+		synchronized (tallyMonitor) {
+			SourceTable sources = sourceTable;
+			long version = routingMatrix.getTallyVersion();
+			if (version != tallyStatsVersion || !sources.equals(tallyStatsSources)) {
+				Map<String, String> updatedTallyStats = new HashMap<>();
+				for (int i = 0; i < sources.size(); i++) {
+					int sourceId = sources.getIdAt(i);
+					// skip the None entry of the routing dropdowns
+					if (sourceId == SourceTable.NONE_ID) {
+						continue;
+					}
+					String sourceName = sources.getName(sourceId);
+					int programCount = routingMatrix.getProgramDestinationCount(sourceId);
+					int previewCount = routingMatrix.getPreviewDestinationCount(sourceId);
+					String tally = BarcoE2Constant.NONE;
+					if (programCount > 0 && previewCount > 0) {
+						tally = BarcoE2Constant.TALLY_PROGRAM_AND_PREVIEW;
+					} else if (programCount > 0) {
+						tally = BarcoE2Constant.TALLY_PROGRAM;
+					} else if (previewCount > 0) {
+						tally = BarcoE2Constant.TALLY_PREVIEW;
+					}
+					updatedTallyStats.put(String.format(BarcoE2Constant.TALLY, sourceName), tally);
+					updatedTallyStats.put(String.format(BarcoE2Constant.TALLY_PROGRAM_COUNT, sourceName), String.valueOf(programCount));
+					updatedTallyStats.put(String.format(BarcoE2Constant.TALLY_PREVIEW_COUNT, sourceName), String.valueOf(previewCount));
+				}
+				tallyStats = updatedTallyStats;
+				tallyStatsVersion = version;
+				tallyStatsSources = sources;
+			}
+			stats.putAll(tallyStats);
+		}
 	}
 
 	/**
-	 * Get Screen Destination content
+	 * Routing control: Update the routing of one destination in the routing state cache, the last poll and the last known good values.
+	 * The destination is patched in its own group and in every super destination that contains it.
+	 * The statistics and controls already returned to Symphony are never modified, patched copies are published in their place.
+	 * The patched last poll is returned by {@link #getMultipleStatistics()} for {@link #routingFeedbackWindow} after the route or the refresh.
 	 *
-	 * @param destId Screen destination id
-	 * @return JsonNode
-	 * @throws Exception Throw exception if fail to get Screen Dest Content
+	 * @param isScreenDest boolean true/false based on screen/aux destination
+	 * @param destName name of the destination
+	 * @param sourceProperties source properties of the destination
 	 */
-	private JsonNode getScreenDestContent(int destId) throws Exception {
-		Map<Object, Object> destParams = new HashMap<>();
-		destParams.put(BarcoE2Constant.ID, destId);
-		return requestByMethod(BarcoE2Constant.METHOD_LIST_CONTENT, destParams);
+	private void updateCachedRoute(boolean isScreenDest, String destName, SourceProperties sourceProperties) {
+		cacheRoutedSource(getDestinationKey(isScreenDest, destName), sourceProperties);
+		List<Statistics> statistics;
+		List<Statistics> updatedStatistics;
+		do {
+			statistics = lastCompletedStatistics.get();
+			if (statistics == null) {
+				break;
+			}
+			updatedStatistics = new ArrayList<>(statistics.size());
+			for (Statistics statistic : statistics) {
+				updatedStatistics.add(statistic instanceof ExtendedStatistics ? updateRoutingStatistics((ExtendedStatistics) statistic, isScreenDest, destName, sourceProperties) : statistic);
+			}
+		} while (!lastCompletedStatistics.compareAndSet(statistics, updatedStatistics));
+		if (statistics != null) {
+			lastWriteThroughTime = System.currentTimeMillis();
+		}
+		String[] phaseNames = isScreenDest ? new String[] { BarcoE2Constant.PHASE_SCREEN_DESTINATIONS, BarcoE2Constant.PHASE_SUPER_DESTINATIONS }
+				: new String[] { BarcoE2Constant.PHASE_AUX_DESTINATIONS, BarcoE2Constant.PHASE_SUPER_AUX_DESTINATIONS };
+		for (String phaseName : phaseNames) {
+			lastKnownGood.computeIfPresent(phaseName, (name, snapshot) -> {
+				List<String> propertyNames = getRoutingPropertyNames(snapshot.statistics, isScreenDest, destName);
+				if (propertyNames.isEmpty()) {
+					return snapshot;
+				}
+				return new PhaseSnapshot(updateRoutingStats(snapshot.statistics, propertyNames, isScreenDest, destName, sourceProperties),
+						updateRoutingControls(snapshot.controls, propertyNames, sourceProperties.currentSourceName), snapshot.timestamp);
+			});
+		}
 	}
 
 	/**
-	 * Routing control: Get routing control json node based on Screen/Aux Destination
+	 * Routing control: Copy the statistics of the last poll with the new routing of one destination
 	 *
-	 * @param methodName Screen/Aux Destination name
-	 * @return This returns the JsonNode
-	 * @throws Exception Throw exception if fail to get list of destination
+	 * @param extendedStatistics statistics of the last poll
+	 * @param isScreenDest boolean true/false based on screen/aux destination
+	 * @param destName name of the destination
+	 * @param sourceProperties source properties of the destination
+	 * @return the patched copy, the same statistics if they don't have the destination and the tally is not reported
 	 */
-	private JsonNode getRoutingControlJsonNode(String methodName) throws Exception {
-		Map<Object, Object> params = new HashMap<>();
-		params.put(BarcoE2Constant.TYPE, BarcoE2Constant.SHOW_ALL_DESTINATION);
-		JsonNode response = requestByMethod(BarcoE2Constant.METHOD_LIST_DESTINATIONS, params);
-		// Check if node is null
-		if (!NullNode.instance.equals(response.get(methodName)) && response.get(methodName) != null && response.get(methodName).size() != 0) {
-			return requestByMethod(BarcoE2Constant.METHOD_LIST_DESTINATIONS, params).get(methodName);
-		} else {
-			return null;
-		}
+	private ExtendedStatistics updateRoutingStatistics(ExtendedStatistics extendedStatistics, boolean isScreenDest, String destName, SourceProperties sourceProperties) {
+		Map<String, String> stats = extendedStatistics.getStatistics();
+		List<String> propertyNames = getRoutingPropertyNames(stats, isScreenDest, destName);
+		if (propertyNames.isEmpty() && (!tallyStatistics || stats == null)) {
+			return extendedStatistics;
+		}
+		Map<String, String> updatedStats = propertyNames.isEmpty() ? new HashMap<>(stats) : updateRoutingStats(stats, propertyNames, isScreenDest, destName, sourceProperties);
+		if (tallyStatistics) {
+			populateTallyStats(updatedStats);
+		}
+		ExtendedStatistics updatedStatistics = new ExtendedStatistics();
+		updatedStatistics.setStatistics(updatedStats);
+		updatedStatistics.setDynamicStatistics(extendedStatistics.getDynamicStatistics());
+		updatedStatistics.setControllableProperties(updateRoutingControls(extendedStatistics.getControllableProperties(), propertyNames, sourceProperties.currentSourceName));
+		return updatedStatistics;
 	}
 
 	/**
-	 * Routing control: Get all sources of the device.
+	 * Routing control: Get the names of the statistics and dropdowns of one destination, in its own group and in the super destinations
 	 *
-	 * @return A map contains source ids and source names.
+	 * @param stats Map of statistics
+	 * @param isScreenDest boolean true/false based on screen/aux destination
+	 * @param destName name of the destination
+	 * @return the names, empty if the statistics don't have the destination
 	 */
-	private Map<Integer, String> getSourceIdToSourceNameMap() throws Exception {
-		JsonNode response = requestByMethod(BarcoE2Constant.METHOD_LIST_SOURCES, new HashMap<>());
-		if (response == null) {
-			throw new ResourceNotReachableException("Cannot get list of source");
-		}
-		Map<Integer, String> sourceIdAndSourceName = new HashMap<>();
-		for (int i = 0; i < response.size(); i++) {
-			JsonNode sourceResponse = response.get(i);
-			JsonNode sourceNameNode = sourceResponse.get(BarcoE2Constant.NAME);
-			JsonNode sourceIdNode = sourceResponse.get(BarcoE2Constant.ID);
-			if (sourceNameNode == null || sourceIdNode == null) {
-				continue;
+	private List<String> getRoutingPropertyNames(Map<String, String> stats, boolean isScreenDest, String destName) {
+		List<String> propertyNames = new ArrayList<>();
+		if (stats == null) {
+			return propertyNames;
+		}
+		String groupType = isScreenDest ? BarcoE2ControllingMetric.SCREEN_DESTINATIONS.getName() : BarcoE2ControllingMetric.AUX_DESTINATIONS.getName();
+		String superGroupPrefix = (isScreenDest ? BarcoE2ControllingMetric.SUPER_SCREEN_DESTINATION.getName() : BarcoE2ControllingMetric.SUPER_AUX_DESTINATION.getName()) + BarcoE2Constant.COLON;
+		String propertyName = String.format(BarcoE2Constant.GROUP_HASH_TAG_MEMBER, groupType, destName);
+		String memberSuffix = BarcoE2Constant.HASH_TAG + destName;
+		for (String name : stats.keySet()) {
+			boolean isSuperMember = name.startsWith(superGroupPrefix) && name.endsWith(memberSuffix) && name.indexOf(BarcoE2Constant.HASH_TAG) == name.length() - memberSuffix.length();
+			if (name.equals(propertyName) || isSuperMember) {
+				propertyNames.add(name);
 			}
-			String sourceName = sourceNameNode.asText();
-			int sourceId = sourceIdNode.asInt();
-			sourceIdAndSourceName.put(sourceId, sourceName);
 		}
-		if (sourceIdAndSourceName.size() == 0) {
-			throw new ResourceNotReachableException("Cannot get list of source");
+		return propertyNames;
+	}
+
+	/**
+	 * Routing control: Copy the statistics with the new routing of one destination
+	 *
+	 * @param stats Map of statistics
+	 * @param propertyNames names of the statistics of the destination
+	 * @param isScreenDest boolean true/false based on screen/aux destination
+	 * @param destName name of the destination
+	 * @param sourceProperties source properties of the destination
+	 * @return the updated copy
+	 */
+	private Map<String, String> updateRoutingStats(Map<String, String> stats, List<String> propertyNames, boolean isScreenDest, String destName, SourceProperties sourceProperties) {
+		Map<String, String> updatedStats = new HashMap<>(stats);
+		for (String name : propertyNames) {
+			updatedStats.put(name, sourceProperties.currentSourceName);
+		}
+		String groupType = isScreenDest ? BarcoE2ControllingMetric.SCREEN_DESTINATIONS.getName() : BarcoE2ControllingMetric.AUX_DESTINATIONS.getName();
+		if (propertyNames.contains(String.format(BarcoE2Constant.GROUP_HASH_TAG_MEMBER, groupType, destName))) {
+			String statusName = String.format("%s#%s%s", groupType, destName, BarcoE2Constant.DESTINATION_STATUS);
+			if (sourceProperties.numberOfSource > 1) {
+				updatedStats.put(statusName, BarcoE2Constant.DESTINATION_MIXED);
+			} else {
+				updatedStats.remove(statusName);
+			}
 		}
-		sourceIdAndSourceName.put(BarcoE2Constant.NO_RECALLED_PRESET, BarcoE2Constant.NONE);
-		// return sorted map of sources by name
-		return sourceIdAndSourceName.entrySet()
-				.stream()
-				.sorted(Map.Entry.comparingByValue())
-				.collect(Collectors.toMap(
-						Map.Entry::getKey,
-						Map.Entry::getValue,
-						(oldValue, newValue) -> oldValue, LinkedHashMap::new));
+		return updatedStats;
 	}
 
 	/**
-	 * Routing control: Populate monitoring/controlling data for screen/aux destination
+	 * Routing control: Copy the controls with the new value of the dropdowns of one destination, the dropdowns are new instances
 	 *
-	 * @param methodName Type of the destination (ScreenDestination/AuxDestination)
-	 * @param screenDestName Name of the destination
-	 * @param currentSourceName Current source name
-	 * @param sourceList List of sources
 	 * @param controls List of AdvancedControllableProperty
-	 * @param numberOfSource Number of sources that are assigned to this destination
+	 * @param propertyNames names of the dropdowns of the destination
+	 * @param sourceName name of the source now on program
+	 * @return the updated copy, the same list if it has none of the dropdowns
 	 */
-	private void populateRouting(Map<String, String> stats, String methodName, String screenDestName, String currentSourceName,
-			List<String> sourceList, List<AdvancedControllableProperty> controls, int numberOfSource) {
-		stats.put(String.format(BarcoE2Constant.GROUP_HASH_TAG_MEMBER, methodName, screenDestName), currentSourceName);
-		controls.add(createDropdown(String.format(BarcoE2Constant.GROUP_HASH_TAG_MEMBER, methodName, screenDestName), currentSourceName, sourceList));
-		if (numberOfSource > 1) {
-			stats.put(String.format("%s#%s%s", methodName, screenDestName, BarcoE2Constant.DESTINATION_STATUS), BarcoE2Constant.DESTINATION_MIXED);
+	private List<AdvancedControllableProperty> updateRoutingControls(List<AdvancedControllableProperty> controls, List<String> propertyNames, String sourceName) {
+		if (controls == null || propertyNames.isEmpty()) {
+			return controls;
+		}
+		List<AdvancedControllableProperty> updatedControls = new ArrayList<>(controls.size());
+		for (AdvancedControllableProperty control : controls) {
+			if (propertyNames.contains(control.getName())) {
+				updatedControls.add(new AdvancedControllableProperty(control.getName(), new Date(), control.getType(), sourceName));
+			} else {
+				updatedControls.add(control);
+			}
 		}
+		return updatedControls;
 	}
 
 	/**
@@ -939,71 +2619,66 @@ public class BarcoE2Communicator extends RestCommunicator implements Monitorable
 	 * @throws Exception Throw exception when fail to call command on the device
 	 */
 	private void changeScreenContent(String screenName, String sourceName) throws Exception {
+		String destinationKey = getDestinationKey(true, screenName);
+		if (isRoutedInCache(destinationKey, sourceName)) {
+			return;
+		}
 		// STEP 1 get screen id
 		int currentScreenDestId = getCurrentScreenDestId(screenName);
 		if (currentScreenDestId == -1)
 		{
 			throw new ResourceNotReachableException(String.format("Not found destination with name %s", screenName));
 		}
+		JsonNode screenDestContent = null;
+		if (RoutingNoOpCheck.getByName(routingNoOpCheck) == RoutingNoOpCheck.FRESH) {
+			screenDestContent = getScreenDestContent(currentScreenDestId);
+			if (isRouted(true, destinationKey, screenDestContent, sourceName)) {
+				return;
+			}
+		}
+		routedSourceByDestination.remove(destinationKey);
  		// If sourceName = 'None' => clear all source and layers
 		if (BarcoE2Constant.NONE.equals(sourceName)) {
+			// clearSourceFromLayer already takes every normal layer off program and preview in the routing matrix
 			clearSourceFromLayer(currentScreenDestId);
 			clearLayerFromDest(currentScreenDestId, -1, false);
+			writeThroughRoute(true, screenName, sourceName);
 			return;
 		}
-		// STEP 2 check if layer is mixed or single
-		JsonNode screenDestContent = getScreenDestContent(currentScreenDestId);
-		JsonNode layerNode = screenDestContent.get(BarcoE2Constant.LAYERS);
-		int layerIndex = -1;
-		layerIndex = getFirstNormalLayerIndex(layerNode, layerIndex);
+		// STEP 2 check if layer is mixed or single, from the layout analysed by the poll
+		LayerLayout layerLayout = layerLayoutByDestId.get(currentScreenDestId);
+		if (screenDestContent != null || layerLayout == null) {
+			if (screenDestContent == null) {
+				screenDestContent = getScreenDestContent(currentScreenDestId);
+			}
+			layerLayout = updateLayerLayout(currentScreenDestId, screenDestContent.get(BarcoE2Constant.LAYERS));
+		}
+		int layerIndex = layerLayout.getFirstNormalLayerIndex();
 		if (layerIndex == -1) {
 			throw new ResourceNotReachableException(String.format("There is no normal layer in %s", screenName));
 		}
-		boolean isMixedLayer = checkLayerType(currentScreenDestId, layerIndex);
+		boolean isMixedLayer = layerLayout.isMixedLayer(layerIndex);
 		// STEP 3 Clear layers:
-		clearLayerFromDest(currentScreenDestId, layerIndex, isMixedLayer);
+		List<Integer> clearedLayerIds = clearLayerFromDest(currentScreenDestId, layerIndex, isMixedLayer);
 		// STEP 4 changeContent
 		int getSourceId = getNewSourceId(sourceName);
-		if (getSourceId == -1) {
-			throw new CommandFailureException(this.getAddress(), "getSourceId", String.format("There is no source with name %s", sourceName));
-		}
-		assignToDest(getSourceId, currentScreenDestId, layerIndex, isMixedLayer);
-	}
-
-	/**
-	 * Check layer type method - mixed/single layer
-	 *
-	 * @param currentScreenDestId screen dest id
-	 * @param layerId id of layer
-	 * @return return true if mixed layer, false: single layer
-	 * @throws Exception Throw exception when fail to get JsonNode or split string
-	 */
-	private boolean checkLayerType(int currentScreenDestId, int layerId) throws Exception {
-		JsonNode screenDestContent = getScreenDestContent(currentScreenDestId);
-		JsonNode layerNode = screenDestContent.get(BarcoE2Constant.LAYERS);
-		JsonNode firstLayerNode = layerNode.get(layerId);
-		JsonNode secondLayerNode = layerNode.get(layerId + 1);
-		String firstLayerName = firstLayerNode.get(BarcoE2Constant.NAME).asText();
-		if (firstLayerNode.get(BarcoE2Constant.NAME) == null) {
-			throw new ResourceNotReachableException("Cannot get name of layer at index 0");
-		}
-		if (secondLayerNode == null) {
-			return false;
-		}
-		if (secondLayerNode.get(BarcoE2Constant.NAME) == null) {
-			throw new ResourceNotReachableException("Cannot get name of layer at index 1");
-		}
-		String secondLayerName = secondLayerNode.get(BarcoE2Constant.NAME).asText();
-		if (firstLayerName.length() == secondLayerName.length() && firstLayerName.contains(BarcoE2Constant.DASH) && secondLayerName.contains(BarcoE2Constant.DASH)) {
-			String[] firstLayerSplit = firstLayerName.split(BarcoE2Constant.DASH);
-			String[] secondLayerSplit = secondLayerName.split(BarcoE2Constant.DASH);
-			return firstLayerSplit[0].equals(secondLayerSplit[0]);
+		try {
+			if (getSourceId == -1) {
+				throw new CommandFailureException(this.getAddress(), "getSourceId", String.format("There is no source with name %s", sourceName));
+			}
+			assignToDest(getSourceId, currentScreenDestId, layerIndex, isMixedLayer, clearedLayerIds);
+		} catch (Exception e) {
+			// the layers are cleared on the device even though the assignment failed
+			routingMatrix.updateScreenLayers(currentScreenDestId, Collections.emptyList(), clearedLayerIds);
+			throw e;
 		}
-		return false;
+		writeThroughRoute(true, screenName, sourceName);
 	}
 
 	/**
-	 * Clear source from the rest of layer
+	 * Clear source from the rest of layer.
+	 * All layers are cleared by one changeContent built from a single content and dimension snapshot,
+	 * with a fallback to one changeContent per layer when the device rejects the batch.
 	 *
 	 * @param destId Screen Destination Id
 	 * @throws Exception Throw exception when fail to call changeContent/ get JsonNode
@@ -1011,30 +2686,57 @@ public class BarcoE2Communicator extends RestCommunicator implements Monitorable
 	private void clearSourceFromLayer(int destId) throws Exception {
 		JsonNode screenDestContent = getScreenDestContent(destId);
 		JsonNode layerNode = screenDestContent.get(BarcoE2Constant.LAYERS);
+		Dimension dimension = populateDimension(destId, false);
+		List<LayerDTO> layerDTOList = new ArrayList<>();
 		for (int i = 0; i < layerNode.size(); i++) {
 			JsonNode currentLayer = layerNode.get(i);
 			if (currentLayer.get(BarcoE2Constant.ID) == null) {
 				throw new ResourceNotReachableException(String.format("Fail to get layer in screen destination with id %S", destId));
 			}
-			LayerDTO layerDTO = new LayerDTO(currentLayer.get(BarcoE2Constant.ID).asInt(), -1, 0, 0);
-			Dimension dimension = populateDimension(destId, false);
-			layerDTO.setDimension(dimension);
 			int linkDestId = currentLayer.get(BarcoE2Constant.LINK_DEST_ID).asInt();
 			// exclude super layer
 			if (linkDestId != -1) {
 				continue;
 			}
+			LayerDTO layerDTO = new LayerDTO(currentLayer.get(BarcoE2Constant.ID).asInt(), -1, 0, 0);
+			layerDTO.setDimension(dimension);
 			layerDTO.setLinkDestId(linkDestId);
-			int linkLayerId = currentLayer.get(BarcoE2Constant.LINK_LAYER_ID).asInt();
-			layerDTO.setLinkLayerId(linkLayerId);
-			Map<Object, Object> changeScreenParams = new HashMap<>();
-			changeScreenParams.put(BarcoE2Constant.ID, destId);
+			layerDTO.setLinkLayerId(currentLayer.get(BarcoE2Constant.LINK_LAYER_ID).asInt());
+			layerDTOList.add(layerDTO);
+		}
+		if (layerDTOList.isEmpty()) {
+			return;
+		}
+		Map<Object, Object> changeScreenParams = new HashMap<>();
+		changeScreenParams.put(BarcoE2Constant.ID, destId);
+		changeScreenParams.put(BarcoE2Constant.LAYERS, layerDTOList.toArray());
+		if (layerDTOList.size() > 1) {
+			if (isChangeContentSuccess(requestByMethod(BarcoE2Constant.METHOD_CHANGE_CONTENT, changeScreenParams))) {
+				routingMatrix.updateScreenLayers(destId, layerDTOList);
+				return;
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Batched layer clear rejected by screen destination %s, clearing layer by layer", destId));
+			}
+		}
+		for (LayerDTO layerDTO : layerDTOList) {
 			changeScreenParams.put(BarcoE2Constant.LAYERS, Arrays.asList(layerDTO).toArray());
-			JsonNode changeScreenContentResponse = requestByMethod(BarcoE2Constant.METHOD_CHANGE_CONTENT, changeScreenParams);
-			if (changeScreenContentResponse.get(BarcoE2Constant.SUCCESS_STATUS).asInt() != 0) {
+			if (!isChangeContentSuccess(requestByMethod(BarcoE2Constant.METHOD_CHANGE_CONTENT, changeScreenParams))) {
 				throw new CommandFailureException(this.getAddress(), "changeContent", "Fail to clear source from layer");
 			}
 		}
+		routingMatrix.updateScreenLayers(destId, layerDTOList);
+	}
+
+	/**
+	 * Routing control: Check the response of changeContent
+	 *
+	 * @param changeContentResponse response of changeContent
+	 * @return true if the device applied the change
+	 */
+	private boolean isChangeContentSuccess(JsonNode changeContentResponse) {
+		return changeContentResponse != null && changeContentResponse.get(BarcoE2Constant.SUCCESS_STATUS) != null
+				&& changeContentResponse.get(BarcoE2Constant.SUCCESS_STATUS).asInt() == 0;
 	}
 
 	/**
@@ -1044,14 +2746,18 @@ public class BarcoE2Communicator extends RestCommunicator implements Monitorable
 	 * @param currentScreenDestId name of current super/screen destination
 	 * @param layerIdx index of layer
 	 * @param isMixedLayer check if layer is mixed
+	 * @param clearedLayerIds ids of the layers cleared before the assignment, recorded in the routing matrix with it
 	 * @throws Exception Throw exception when fail to changeContent
 	 */
-	private void assignToDest(int getSourceIndex, int currentScreenDestId, int layerIdx, boolean isMixedLayer) throws Exception {
+	private void assignToDest(int getSourceIndex, int currentScreenDestId, int layerIdx, boolean isMixedLayer, List<Integer> clearedLayerIds) throws Exception {
 		// STEP 1 get dimension from source and destination
-		Dimension sourceDimension = populateDimension(getSourceIndex, true);
-		Dimension destDimension = populateDimension(currentScreenDestId, false);
-		// STEP 2 calculate dimension to make the layer stay in the middle of the screen destination
-		Dimension layerDimension = calculateProperDimension(sourceDimension, destDimension);
+		// STEP 2 calculate dimension to make the layer stay in the middle of the screen destination, precomputed with the topology
+		Dimension layerDimension = layerGeometryTable.getLayerDimension(getSourceIndex, currentScreenDestId);
+		if (layerDimension == null) {
+			Dimension sourceDimension = populateDimension(getSourceIndex, true);
+			Dimension destDimension = populateDimension(currentScreenDestId, false);
+			layerDimension = LayerGeometryTable.calculateProperDimension(sourceDimension, destDimension);
+		}
 		// STEP 3 put dimension to list
 		List<LayerDTO> layerDTOList = new ArrayList<>();
 		// GET DEST CONTENT
@@ -1073,21 +2779,23 @@ public class BarcoE2Communicator extends RestCommunicator implements Monitorable
 		// STEP 4 prepare param before call changeContent
 		Map<Object, Object> changeScreenParams = new HashMap<>();
 		changeScreenParams.put(BarcoE2Constant.ID, currentScreenDestId);
-		boolean result;
-		if (isMixedLayer) {
+		// both layers of a mix pair are sent in one changeContent so the mix is never half updated
+		changeScreenParams.put(BarcoE2Constant.LAYERS, layerDTOList.toArray());
+		boolean result = isChangeContentSuccess(requestByMethod(BarcoE2Constant.METHOD_CHANGE_CONTENT, changeScreenParams));
+		if (!result && isMixedLayer) {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Combined mix assignment rejected by screen destination %s, assigning layer by layer", currentScreenDestId));
+			}
 			changeScreenParams.put(BarcoE2Constant.LAYERS, Arrays.asList(layerDTOList.get(0)).toArray());
-			boolean assignFirstLayer = requestByMethod(BarcoE2Constant.METHOD_CHANGE_CONTENT, changeScreenParams).get(BarcoE2Constant.SUCCESS_STATUS).asInt() == 0;
-			changeScreenParams.remove(BarcoE2Constant.LAYERS);
+			boolean assignFirstLayer = isChangeContentSuccess(requestByMethod(BarcoE2Constant.METHOD_CHANGE_CONTENT, changeScreenParams));
 			changeScreenParams.put(BarcoE2Constant.LAYERS, Arrays.asList(layerDTOList.get(1)).toArray());
-			boolean assignSecondLayer = requestByMethod(BarcoE2Constant.METHOD_CHANGE_CONTENT, changeScreenParams).get(BarcoE2Constant.SUCCESS_STATUS).asInt() == 0;
+			boolean assignSecondLayer = isChangeContentSuccess(requestByMethod(BarcoE2Constant.METHOD_CHANGE_CONTENT, changeScreenParams));
 			result = assignFirstLayer && assignSecondLayer;
-		} else {
-			changeScreenParams.put(BarcoE2Constant.LAYERS, layerDTOList.toArray());
-			result = requestByMethod(BarcoE2Constant.METHOD_CHANGE_CONTENT, changeScreenParams).get(BarcoE2Constant.SUCCESS_STATUS).asInt() == 0;
 		}
 		if (!result) {
 			throw new CommandFailureException(this.getAddress(), "changeContent", "Fail to assign source to super/screen destination");
 		}
+		routingMatrix.updateScreenLayers(currentScreenDestId, layerDTOList, clearedLayerIds);
 	}
 
 	/**
@@ -1114,64 +2822,53 @@ public class BarcoE2Communicator extends RestCommunicator implements Monitorable
 
 	/**
 	 * Populate dimension for
+	 * The size is read from the geometry table, the sources or destinations are only listed when it is not there
 	 *
 	 * @param id id of array
 	 * @param isSourceNode is source node
 	 * @throws Exception when fail to get JsonNode
 	 */
 	private Dimension populateDimension(int id, boolean isSourceNode) throws Exception {
+		Dimension dimension = isSourceNode ? layerGeometryTable.getSourceDimension(id) : layerGeometryTable.getDestinationDimension(id);
+		if (dimension != null) {
+			return dimension;
+		}
 		JsonNode jsonNode;
 		if (isSourceNode) {
-			jsonNode = requestByMethod(BarcoE2Constant.METHOD_LIST_SOURCES, new HashMap<>());
+			jsonNode = requestByMethod(BarcoE2Constant.METHOD_LIST_SOURCES, Collections.emptyMap());
 		} else {
 			jsonNode = getRoutingControlJsonNode(BarcoE2Constant.SCREEN_DESTINATION);
 		}
-		Dimension dimension = new Dimension();
-		for (int i = 0; i < (jsonNode != null ? jsonNode.size() : 0); i++) {
-			JsonNode currentDestNode = jsonNode.get(i);
-			if (currentDestNode.get(BarcoE2Constant.ID) == null) {
-				throw new ResourceNotReachableException(String.format("Cannot get screen destination content at index %s", i));
-			}
-			if (currentDestNode.get(BarcoE2Constant.ID).asInt() == id) {
-				dimension.sethSize(currentDestNode.get(BarcoE2Constant.H_SIZE).asInt());
-				dimension.setvSize(currentDestNode.get(BarcoE2Constant.V_SIZE).asInt());
-				dimension.setvPos(0);
-				dimension.sethPos(0);
-				// break after get info success
-				break;
-			}
+		Map<Integer, Dimension> dimensions = toDimensionMap(jsonNode);
+		if (isSourceNode) {
+			layerGeometryTable.updateSources(dimensions);
+		} else {
+			layerGeometryTable.updateDestinations(dimensions);
 		}
-		return dimension;
+		dimension = dimensions.get(id);
+		return dimension != null ? dimension : new Dimension();
 	}
 
 	/**
-	 * Calculate the dimension to make the layer center
+	 * Read the sizes of a list of sources or screen destinations
 	 *
-	 * @param sourceDimension Dimension of the source that will be changed
-	 * @param destinationDimension Dimension of destination
-	 * @return This returns the new dimension
+	 * @param jsonNode response of listSources or the screen destinations of listDestinations
+	 * @return sizes by id
 	 */
-	private Dimension calculateProperDimension(Dimension sourceDimension, Dimension destinationDimension) {
-		// CASE 1: new dim vsize = dest v size
-		Dimension newDimension = new Dimension();
-		newDimension.setvSize(destinationDimension.getvSize());
-		int newHsize = destinationDimension.getvSize() * sourceDimension.gethSize() / sourceDimension.getvSize();
-		newDimension.sethSize(newHsize);
-		newDimension.setvPos(0);
-		int newHpos = (destinationDimension.gethSize() - newHsize) / 2;
-		newDimension.sethPos(newHpos);
-		if (newDimension.gethSize() > destinationDimension.gethSize() || newDimension.getvSize() > destinationDimension.getvSize()) {
-			// CASE 2:
-			newDimension = new Dimension();
-			newDimension.sethSize(destinationDimension.gethSize());
-			int newVsize = destinationDimension.gethSize() * sourceDimension.getvSize() / sourceDimension.gethSize();
-			newDimension.setvSize(newVsize);
-			newDimension.sethPos(0);
-			int newVPos = (destinationDimension.getvSize() - newVsize) / 2;
-			newDimension.setvPos(newVPos);
+	private Map<Integer, Dimension> toDimensionMap(JsonNode jsonNode) {
+		Map<Integer, Dimension> dimensions = new HashMap<>();
+		for (int i = 0; i < (jsonNode != null ? jsonNode.size() : 0); i++) {
+			JsonNode currentDestNode = jsonNode.get(i);
+			if (currentDestNode.get(BarcoE2Constant.ID) == null) {
+				continue;
+			}
+			JsonNode hSizeNode = currentDestNode.get(BarcoE2Constant.H_SIZE);
+			JsonNode vSizeNode = currentDestNode.get(BarcoE2Constant.V_SIZE);
+			int hSize = hSizeNode != null ? hSizeNode.asInt() : 0;
+			int vSize = vSizeNode != null ? vSizeNode.asInt() : 0;
+			dimensions.put(currentDestNode.get(BarcoE2Constant.ID).asInt(), new Dimension(0, 0, hSize, vSize));
 		}
-
-		return newDimension;
+		return dimensions;
 	}
 
 	/**
@@ -1224,9 +2921,10 @@ public class BarcoE2Communicator extends RestCommunicator implements Monitorable
 	 * @param currentScreenDestId screen destination id
 	 * @param excludeLayerId exclude id from loop, excludeLayerId = -1 means clear all layer from the destination.
 	 * @param isMixedType check if layer is mixed type
+	 * @return ids of the cleared layers
 	 * @throws Exception throw exception when fail to get screen destination content
 	 */
-	private void clearLayerFromDest(int currentScreenDestId, int excludeLayerId, boolean isMixedType) throws Exception {
+	private List<Integer> clearLayerFromDest(int currentScreenDestId, int excludeLayerId, boolean isMixedType) throws Exception {
 		JsonNode screenDestContent = getScreenDestContent(currentScreenDestId).get(BarcoE2Constant.LAYERS);
 		List<LayerRequestDTO> layerRequestDTOList = new ArrayList<>();
 		for (int i = 0; i < screenDestContent.size(); i++) {
@@ -1259,6 +2957,11 @@ public class BarcoE2Communicator extends RestCommunicator implements Monitorable
 		if (clearLayerSuccessNode == null || clearLayerSuccessNode.asInt() != 0) {
 			throw new CommandFailureException(this.getAddress(), "clearLayers", "Fail to call clearLayers");
 		}
+		List<Integer> clearedLayerIds = new ArrayList<>(layerRequestDTOList.size());
+		for (LayerRequestDTO layerRequestDTO : layerRequestDTOList) {
+			clearedLayerIds.add(layerRequestDTO.getId());
+		}
+		return clearedLayerIds;
 	}
 
 	/**
@@ -1268,14 +2971,7 @@ public class BarcoE2Communicator extends RestCommunicator implements Monitorable
 	 * @return This returns the new source index
 	 */
 	private int getNewSourceId(String sourceName) {
-		int newSourceIndex = -1;
-		for (Entry<Integer, String> entry : sourceIdToNameMap.entrySet()) {
-			if (entry.getValue().equals(sourceName)) {
-				newSourceIndex = entry.getKey();
-				break;
-			}
-		}
-		return newSourceIndex;
+		return sourceTable.getId(sourceName, -1);
 	}
 
 	/**
@@ -1286,6 +2982,10 @@ public class BarcoE2Communicator extends RestCommunicator implements Monitorable
 	 * @throws Exception when fail to changeAuxContent
 	 */
 	private void changeAuxContent(String auxName, String sourceName) throws Exception {
+		String destinationKey = getDestinationKey(false, auxName);
+		if (isRoutedInCache(destinationKey, sourceName)) {
+			return;
+		}
 		// STEP 1 get aux destination id from auxName
 		Map<Object, Object> params = new HashMap<>();
 		params.put(BarcoE2Constant.TYPE, BarcoE2Constant.DESTINATION_AUX_TYPE);
@@ -1300,17 +3000,15 @@ public class BarcoE2Communicator extends RestCommunicator implements Monitorable
 				currentAuxDestId = auxResponse.get(BarcoE2Constant.ID).asInt();
 			}
 		}
+		if (RoutingNoOpCheck.getByName(routingNoOpCheck) == RoutingNoOpCheck.FRESH && isRouted(false, destinationKey, getAuxDestContent(currentAuxDestId), sourceName)) {
+			return;
+		}
+		routedSourceByDestination.remove(destinationKey);
 		// STEP 2 prepare params before calling changeAuxContent
 		Map<Object, Object> changeAuxParams = new HashMap<>();
 		changeAuxParams.put(BarcoE2Constant.ID, currentAuxDestId);
 		// STEP 3 get index of the source that will be assigned to aux destination
-		int getSourceIndex = 0;
-		for (Entry<Integer, String> entry : sourceIdToNameMap.entrySet()) {
-			if (entry.getValue().equals(sourceName)) {
-				getSourceIndex = entry.getKey();
-				break;
-			}
-		}
+		int getSourceIndex = sourceTable.getId(sourceName, 0);
 		changeAuxParams.put(BarcoE2Constant.PVM_LAST_SRC_INDEX, getSourceIndex);
 		changeAuxParams.put(BarcoE2Constant.PGM_LAST_SRC_INDEX, getSourceIndex);
 		// STEP 4 call changeAuxContent
@@ -1318,6 +3016,8 @@ public class BarcoE2Communicator extends RestCommunicator implements Monitorable
 		if (changeAuxContentResponse == null || changeAuxContentResponse.get(BarcoE2Constant.SUCCESS_STATUS).asInt() != 0) {
 			throw new CommandFailureException(this.getAddress(), "changeAuxContent", "Fail to call changeAuxContent");
 		}
+		routingMatrix.updateAuxDestination(currentAuxDestId, getSourceIndex, getSourceIndex);
+		writeThroughRoute(false, auxName, sourceName);
 	}
 
 	/**
@@ -1334,7 +3034,7 @@ public class BarcoE2Communicator extends RestCommunicator implements Monitorable
 		if (listDestIds.isEmpty()) {
 			return;
 		}
-		List<String> sourceList = new ArrayList<>(sourceIdToNameMap.values());
+		List<String> sourceList = sourceTable.getSortedNames();
 		// Super Screen/Aux dest loop
 		for (Integer listDestId : listDestIds) {
 			JsonNode response = getSuperDestContent(isSuperDest, String.valueOf(listDestId));
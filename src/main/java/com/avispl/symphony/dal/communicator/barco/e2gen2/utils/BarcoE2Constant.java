@@ -95,5 +95,64 @@ public final class BarcoE2Constant {
 	public static final String SCREEN_DESTINATION = "ScreenDestination";
 	public static final String AUX_DESTINATION = "AuxDestination";
 	public static final String COLON = ":";
-}
 
+	// Circuit breaker
+	public static final int DEFAULT_CIRCUIT_BREAKER_RETRY_INTERVAL = 10000;
+	public static final String CONNECT_TIMED_OUT = "connect timed out";
+
+	// Reachability probe
+	public static final int DEFAULT_REACHABILITY_PROBE_BUDGET = 1000;
+	public static final int REACHABILITY_HISTORY_SIZE = 10;
+	public static final int ICMP_PACKET_SIZE = 32;
+
+	// Poll deadline
+	public static final String TRUE = "true";
+	public static final int MAX_RPC_THREADS = 4;
+	public static final int RPC_THREAD_KEEP_ALIVE = 60;
+	public static final String PHASE_DEVICE_INFORMATION = "DeviceInformation";
+	public static final String PHASE_PRESETS = "Presets";
+	public static final String PHASE_ROUTING_METADATA = "RoutingMetadata";
+	public static final String PHASE_SCREEN_DESTINATIONS = "ScreenDestinations";
+	public static final String PHASE_AUX_DESTINATIONS = "AuxDestinations";
+	public static final String PHASE_SUPER_DESTINATIONS = "SuperDestinations";
+	public static final String PHASE_SUPER_AUX_DESTINATIONS = "SuperAuxDestinations";
+
+	// Last known good values
+	public static final String STALE_DATA_AGE = "StaleData#%sAge(s)";
+	public static final String STALE_DATA_GROUP = "StaleData#";
+	public static final int DEFAULT_STALE_REVALIDATION_DELAY = 5000;
+
+	// Preset catalogue
+	public static final int DEFAULT_PRESET_CATALOGUE_TTL = 60000;
+
+	// Preset recall
+	public static final int DEFAULT_PRESET_RECALL_TIMEOUT = 30000;
+	public static final int PRESET_RECALL_CONFIRM_INTERVAL = 500;
+
+	// Async control
+	public static final int DEFAULT_CONTROL_CONCURRENCY = 4;
+	public static final int ROUTING_CONTROL_TIMEOUT = 30000;
+	public static final String SCREEN_COMMAND_KEY = "Screen:%s";
+	public static final String AUX_COMMAND_KEY = "Aux:%s";
+	public static final String SUPER_DESTINATION_KEY = "Super:%s";
+	public static final String SUPER_AUX_DESTINATION_KEY = "SuperAux:%s";
+
+	// Routing write-through
+	public static final int DEFAULT_ROUTING_FEEDBACK_WINDOW = 5000;
+
+	// Tally
+	public static final String TALLY = "Tally#%s";
+	public static final String TALLY_PROGRAM_COUNT = "Tally#%sProgramCount";
+	public static final String TALLY_PREVIEW_COUNT = "Tally#%sPreviewCount";
+	public static final String TALLY_PROGRAM = "Program";
+	public static final String TALLY_PREVIEW = "Preview";
+	public static final String TALLY_PROGRAM_AND_PREVIEW = "Program, Preview";
+
+	// Compressed responses and payload bytes
+	public static final String ACCEPT_ENCODING_COMPRESSED = "gzip, deflate";
+	public static final String ACCEPT_ENCODING_IDENTITY = "identity";
+	public static final String PAYLOAD_BYTES_SENT = "PayloadBytes#%sSent";
+	public static final String PAYLOAD_BYTES_RECEIVED = "PayloadBytes#%sReceived";
+	public static final String PAYLOAD_BYTES_TOTAL = "Total";
+	public static final String PAYLOAD_BYTES_ACCEPT_ENCODING = "PayloadBytes#AcceptEncoding";
+}
@@ -14,7 +14,7 @@ public enum BarcoE2ControllingMetric {
 	PRESETS_LAST_CALLED_PRESET("Presets#LastCalledPreset"), PRESETS_PRESET("Presets#Preset"),
 	PRESETS_PRESET_ACTIVATE("Presets#PresetActivate"), SCREEN_DESTINATIONS("ScreenDestinations"),
 	AUX_DESTINATIONS("AuxDestinations"), SUPER_SCREEN_DESTINATION("SuperDestination"),
-	SUPER_AUX_DESTINATION("SuperAuxDestination");
+	SUPER_AUX_DESTINATION("SuperAuxDestination"), REFRESH_DESTINATION("Refresh#Destination");
 
 	private final String name;
 
@@ -20,7 +20,14 @@ public enum BarcoE2MonitoringMetric {
 	HOST_NAME("DeviceInformation#HostName"),
 	CONNECTED_UNITS("DeviceInformation#ConnectedUnits"),
 	POWER_SUPPLY_1_STATUS("PowerStatus#PowerSupply1Status"),
-	POWER_SUPPLY_2_STATUS("PowerStatus#PowerSupply2Status");
+	POWER_SUPPLY_2_STATUS("PowerStatus#PowerSupply2Status"),
+	ROUND_TRIP_TIME("Reachability#RoundTripTime(ms)"),
+	AVERAGE_ROUND_TRIP_TIME("Reachability#AverageRoundTripTime(ms)"),
+	ROUND_TRIP_TIME_HISTORY("Reachability#RoundTripTimeHistory(ms)"),
+	POLL_INCOMPLETE("PollIncomplete"),
+	POLL_SKIPPED_PHASES("PollSkippedPhases"),
+	PRESET_RECALL_STATE("Presets#RecallState"),
+	PRESET_RECALL_LATENCY("Presets#RecallLatency(ms)");
 
 	private final String name;
 
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.barco.e2gen2.utils;
+
+/**
+ * Per-device circuit breaker around the JSON-RPC calls.
+ * The first connection failure opens the circuit, every request then fails fast until the retry interval elapses
+ * or a reachability probe finds the device again.
+ * After that a single probe request is let through, its result closes or re-opens the circuit.
+ *
+ * @author Duy Nguyen
+ * @since 1.0.0
+ */
+public class CircuitBreaker {
+
+	private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+	private long openedAt;
+	private boolean isProbeInFlight;
+	private long retryInterval;
+
+	/**
+	 * CircuitBreaker with arg constructor
+	 *
+	 * @param retryInterval time in milliseconds the circuit stays open before a probe is allowed
+	 */
+	public CircuitBreaker(long retryInterval) {
+		this.retryInterval = retryInterval;
+	}
+
+	/**
+	 * Check if a request is allowed to go to the device.
+	 * Moves an open circuit to half-open once the retry interval elapsed, the caller is then the single probe.
+	 * On a half-open circuit the caller is the single probe if no probe is in flight yet.
+	 *
+	 * @return true if the request can be sent, false if it has to fail fast
+	 */
+	public synchronized boolean tryAcquire() {
+		switch (state) {
+			case CLOSED:
+				return true;
+			case OPEN:
+				if (System.currentTimeMillis() - openedAt >= retryInterval) {
+					state = CircuitBreakerState.HALF_OPEN;
+					isProbeInFlight = true;
+					return true;
+				}
+				return false;
+			case HALF_OPEN:
+			default:
+				if (isProbeInFlight) {
+					return false;
+				}
+				isProbeInFlight = true;
+				return true;
+		}
+	}
+
+	/**
+	 * Record a successful reachability probe, an open circuit is moved to half-open without waiting for the retry interval
+	 * so that the next request is let through as the probe.
+	 */
+	public synchronized void recordReachable() {
+		if (state == CircuitBreakerState.OPEN) {
+			state = CircuitBreakerState.HALF_OPEN;
+			isProbeInFlight = false;
+		}
+	}
+
+	/**
+	 * Record a request that reached the device, the circuit is closed
+	 */
+	public synchronized void recordSuccess() {
+		state = CircuitBreakerState.CLOSED;
+		isProbeInFlight = false;
+	}
+
+	/**
+	 * Record a connection failure, the circuit is (re-)opened
+	 */
+	public synchronized void recordFailure() {
+		state = CircuitBreakerState.OPEN;
+		openedAt = System.currentTimeMillis();
+		isProbeInFlight = false;
+	}
+
+	/**
+	 * Record a probe that ended without telling anything about the device, such as a poll deadline.
+	 * A half-open circuit is opened again so that another probe is let through after the retry interval.
+	 */
+	public synchronized void releaseProbe() {
+		if (state == CircuitBreakerState.HALF_OPEN) {
+			state = CircuitBreakerState.OPEN;
+			openedAt = System.currentTimeMillis();
+			isProbeInFlight = false;
+		}
+	}
+
+	/**
+	 * Retrieves {@code {@link #state}}
+	 *
+	 * @return value of {@link #state}
+	 */
+	public synchronized CircuitBreakerState getState() {
+		return state;
+	}
+
+	/**
+	 * Sets {@code retryInterval}
+	 *
+	 * @param retryInterval the {@code long} field
+	 */
+	public synchronized void setRetryInterval(long retryInterval) {
+		this.retryInterval = retryInterval;
+	}
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.barco.e2gen2.utils;
+
+/**
+ * States of the per-device circuit breaker
+ *
+ * @author Duy Nguyen
+ * @since 1.0.0
+ */
+public enum CircuitBreakerState {
+
+	/**
+	 * Requests are sent to the device
+	 */
+	CLOSED,
+	/**
+	 * The device is unreachable, requests fail fast without touching the network
+	 */
+	OPEN,
+	/**
+	 * The retry interval elapsed, a single probe request is let through
+	 */
+	HALF_OPEN
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.barco.e2gen2.utils;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Read the responses and write the requests of the device with an ObjectReader per DTO type and one ObjectWriter, built once.
+ * The Jackson module of the {@link JsonCodecMode} is loaded by name, the codec falls back to {@link JsonCodecMode#DEFAULT} when it is not on the classpath.
+ *
+ * @author Duy Nguyen
+ * @since 1.0.0
+ */
+public class JsonCodec {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ObjectWriter writer;
+	private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+	private final JsonCodecMode mode;
+
+	/**
+	 * JsonCodec with arg constructor
+	 *
+	 * @param requestedMode mode from the adapter properties
+	 */
+	public JsonCodec(JsonCodecMode requestedMode) {
+		this.mode = registerModule(requestedMode) ? requestedMode : JsonCodecMode.DEFAULT;
+		this.writer = objectMapper.writer();
+	}
+
+	/**
+	 * Retrieves {@code {@link #mode}}
+	 *
+	 * @return value of {@link #mode}, {@link JsonCodecMode#DEFAULT} if the module of the requested mode could not be loaded
+	 */
+	public JsonCodecMode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Read a DTO from the bytes of a raw body, the parser reads the bytes through the recycled buffers of Jackson without decoding them to a String
+	 *
+	 * @param body raw body
+	 * @param tClass class of the DTO
+	 * @param <T> type of the DTO
+	 * @return the DTO
+	 * @throws IOException if the body cannot be read
+	 */
+	public <T> T readValue(byte[] body, Class<T> tClass) throws IOException {
+		return readerFor(tClass).readValue(body);
+	}
+
+	/**
+	 * Read a DTO from a node
+	 *
+	 * @param node the node
+	 * @param tClass class of the DTO
+	 * @param <T> type of the DTO
+	 * @return the DTO
+	 * @throws IOException if the node cannot be read
+	 */
+	public <T> T treeToValue(JsonNode node, Class<T> tClass) throws IOException {
+		return readerFor(tClass).readValue(node);
+	}
+
+	/**
+	 * Convert a DTO to a node
+	 *
+	 * @param value the DTO
+	 * @return the node
+	 */
+	public JsonNode valueToTree(Object value) {
+		return objectMapper.valueToTree(value);
+	}
+
+	/**
+	 * Write a DTO as the bytes of a JSON document
+	 *
+	 * @param value the DTO
+	 * @return UTF-8 bytes
+	 * @throws JsonProcessingException if the DTO cannot be written
+	 */
+	public byte[] writeValueAsBytes(Object value) throws JsonProcessingException {
+		return writer.writeValueAsBytes(value);
+	}
+
+	/**
+	 * Get the reader of a DTO type, built on first use
+	 *
+	 * @param tClass class of the DTO
+	 * @return the reader
+	 */
+	private ObjectReader readerFor(Class<?> tClass) {
+		ObjectReader reader = readers.get(tClass);
+		if (reader == null) {
+			reader = objectMapper.readerFor(tClass);
+			readers.putIfAbsent(tClass, reader);
+		}
+		return reader;
+	}
+
+	/**
+	 * Register the Jackson module of a mode
+	 *
+	 * @param requestedMode mode from the adapter properties
+	 * @return true if the mode has no module or its module is registered
+	 */
+	private boolean registerModule(JsonCodecMode requestedMode) {
+		if (requestedMode.getModuleClassName() == null) {
+			return true;
+		}
+		try {
+			objectMapper.registerModule((Module) Class.forName(requestedMode.getModuleClassName()).getDeclaredConstructor().newInstance());
+			return true;
+		} catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+			return false;
+		}
+	}
+}
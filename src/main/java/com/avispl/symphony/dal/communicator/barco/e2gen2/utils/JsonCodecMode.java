@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.barco.e2gen2.utils;
+
+/**
+ * Jackson setup used to read the responses and write the requests
+ *
+ * @author Duy Nguyen
+ * @since 1.0.0
+ */
+public enum JsonCodecMode {
+
+	/**
+	 * Plain ObjectMapper with prebuilt readers and writer
+	 */
+	DEFAULT(null),
+	/**
+	 * Readers and writer with the Afterburner module, which generates bytecode for the DTO accessors
+	 */
+	AFTERBURNER("com.fasterxml.jackson.module.afterburner.AfterburnerModule"),
+	/**
+	 * Readers and writer with the Blackbird module, which uses LambdaMetafactory for the DTO accessors
+	 */
+	BLACKBIRD("com.fasterxml.jackson.module.blackbird.BlackbirdModule");
+
+	private final String moduleClassName;
+
+	/**
+	 * JsonCodecMode with arg constructor
+	 *
+	 * @param moduleClassName class of the Jackson module, null if no module is registered
+	 */
+	JsonCodecMode(String moduleClassName) {
+		this.moduleClassName = moduleClassName;
+	}
+
+	/**
+	 * Retrieves {@code {@link #moduleClassName}}
+	 *
+	 * @return value of {@link #moduleClassName}
+	 */
+	public String getModuleClassName() {
+		return moduleClassName;
+	}
+
+	/**
+	 * Get codec mode by name, case-insensitive
+	 *
+	 * @param name name of the mode from the adapter properties
+	 * @return Enum of JsonCodecMode
+	 */
+	public static JsonCodecMode getByName(String name) {
+		for (JsonCodecMode mode : JsonCodecMode.values()) {
+			if (mode.name().equalsIgnoreCase(name.trim())) {
+				return mode;
+			}
+		}
+		throw new IllegalArgumentException("Cannot find the JSON codec with name: " + name);
+	}
+}
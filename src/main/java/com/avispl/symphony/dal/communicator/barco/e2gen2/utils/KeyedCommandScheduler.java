@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.barco.e2gen2.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs commands FIFO per key and concurrently across keys.
+ * A command only reaches the executor once the previous command of its key is done, so a waiting command doesn't hold a thread.
+ * The global concurrency is bounded by the size of the executor.
+ * With {@link #submitLatest(String, Command, long)} commands of a key are held for a window and only the latest one is run.
+ * With {@link #submitAfter(Collection, Command)} a command is queued behind every listed key and is never superseded.
+ *
+ * @author Duy Nguyen
+ * @since 1.0.0
+ */
+public class KeyedCommandScheduler {
+
+	/**
+	 * A command sent to the device
+	 */
+	@FunctionalInterface
+	public interface Command {
+		void run() throws Exception;
+	}
+
+	/**
+	 * A command held during the coalescing window, replaced by later commands of its key
+	 */
+	private static class PendingCommand {
+		private Command command;
+		private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+		PendingCommand(Command command) {
+			this.command = command;
+		}
+	}
+
+	private final ExecutorService executor;
+	private final ScheduledExecutorService timer;
+	private final Map<String, CompletableFuture<Void>> lastCommandByKey = new HashMap<>();
+	private final Map<String, PendingCommand> pendingCommandByKey = new HashMap<>();
+
+	/**
+	 * KeyedCommandScheduler with args constructor
+	 *
+	 * @param executor executor running the commands, its size bounds the global concurrency
+	 * @param timer executor ending the coalescing windows
+	 */
+	public KeyedCommandScheduler(ExecutorService executor, ScheduledExecutorService timer) {
+		this.executor = executor;
+		this.timer = timer;
+	}
+
+	/**
+	 * Queue a command behind the previous commands of its key
+	 *
+	 * @param key key of the command, for example the destination it changes
+	 * @param command the command
+	 * @return future completed when the command is done
+	 */
+	public CompletableFuture<Void> submit(String key, Command command) {
+		return submitAfter(Collections.singletonList(key), command);
+	}
+
+	/**
+	 * Queue a command behind the previous commands of all its keys, the later commands of any of these keys wait for it.
+	 * A command held in the coalescing window of one of the keys is queued first, so it is neither dropped nor overtaken.
+	 *
+	 * @param keys keys of the command, for example the destinations it reads
+	 * @param command the command
+	 * @return future completed when the command is done
+	 */
+	public CompletableFuture<Void> submitAfter(Collection<String> keys, Command command) {
+		List<PendingCommand> flushedCommands = new ArrayList<>();
+		List<CompletableFuture<Void>> flushedResults = new ArrayList<>();
+		CompletableFuture<Void> result;
+		synchronized (this) {
+			for (String key : keys) {
+				PendingCommand pendingCommand = pendingCommandByKey.remove(key);
+				if (pendingCommand != null) {
+					flushedCommands.add(pendingCommand);
+					flushedResults.add(enqueue(Collections.singletonList(key), pendingCommand.command));
+				}
+			}
+			result = enqueue(keys, command);
+		}
+		for (int i = 0; i < flushedCommands.size(); i++) {
+			completePending(flushedCommands.get(i), flushedResults.get(i));
+		}
+		return result;
+	}
+
+	/**
+	 * Queue a command, last writer wins: the command is held for the window and replaced by any later command of its key.
+	 * All callers coalesced into one command get the future of the command that is finally run.
+	 *
+	 * @param key key of the command, for example the destination it changes
+	 * @param command the command
+	 * @param window coalescing window in milliseconds, 0 to queue the command right away
+	 * @return future completed when the latest command of the window is done
+	 */
+	public synchronized CompletableFuture<Void> submitLatest(String key, Command command, long window) {
+		if (window <= 0) {
+			return submit(key, command);
+		}
+		PendingCommand pendingCommand = pendingCommandByKey.get(key);
+		if (pendingCommand != null) {
+			// the superseded command is dropped
+			pendingCommand.command = command;
+			return pendingCommand.result;
+		}
+		PendingCommand newPendingCommand = new PendingCommand(command);
+		pendingCommandByKey.put(key, newPendingCommand);
+		try {
+			timer.schedule(() -> flush(key, newPendingCommand), window, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			pendingCommandByKey.remove(key);
+			newPendingCommand.result.completeExceptionally(e);
+		}
+		return newPendingCommand.result;
+	}
+
+	/**
+	 * Stop the executors, pending commands are not run
+	 */
+	public void shutdown() {
+		timer.shutdownNow();
+		executor.shutdownNow();
+	}
+
+	/**
+	 * End the coalescing window of a key, the latest command is queued
+	 *
+	 * @param key key of the command
+	 * @param pendingCommand the command held during the window
+	 */
+	private void flush(String key, PendingCommand pendingCommand) {
+		CompletableFuture<Void> result;
+		synchronized (this) {
+			if (!pendingCommandByKey.remove(key, pendingCommand)) {
+				// already queued ahead of a command submitted with submitAfter
+				return;
+			}
+			result = enqueue(Collections.singletonList(key), pendingCommand.command);
+		}
+		completePending(pendingCommand, result);
+	}
+
+	/**
+	 * Complete the future shared by the callers coalesced into a command with the result of the command
+	 *
+	 * @param pendingCommand the command held during the window
+	 * @param result future of the queued command
+	 */
+	private void completePending(PendingCommand pendingCommand, CompletableFuture<Void> result) {
+		result.whenComplete((value, error) -> {
+			if (error == null) {
+				pendingCommand.result.complete(null);
+			} else {
+				pendingCommand.result.completeExceptionally(error);
+			}
+		});
+	}
+
+	/**
+	 * Queue a command behind the previous commands of its keys, the caller holds the lock
+	 *
+	 * @param keys keys of the command
+	 * @param command the command
+	 * @return future completed when the command is done
+	 */
+	private CompletableFuture<Void> enqueue(Collection<String> keys, Command command) {
+		List<CompletableFuture<Void>> previousCommands = new ArrayList<>();
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		for (String key : keys) {
+			CompletableFuture<Void> previous = lastCommandByKey.put(key, result);
+			if (previous != null && previous != result) {
+				previousCommands.add(previous);
+			}
+		}
+		if (previousCommands.isEmpty()) {
+			dispatch(command, result);
+		} else {
+			// the next command runs whatever the outcome of the previous ones
+			CompletableFuture.allOf(previousCommands.toArray(new CompletableFuture<?>[0])).whenComplete((value, error) -> dispatch(command, result));
+		}
+		for (String key : keys) {
+			result.whenComplete((value, error) -> release(key, result));
+		}
+		return result;
+	}
+
+	/**
+	 * Hand a command to the executor
+	 *
+	 * @param command the command
+	 * @param result future of the command
+	 */
+	private void dispatch(Command command, CompletableFuture<Void> result) {
+		try {
+			executor.execute(() -> {
+				try {
+					command.run();
+					result.complete(null);
+				} catch (Exception e) {
+					result.completeExceptionally(e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			result.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Forget the last command of a key once it is done and nothing was queued behind it
+	 *
+	 * @param key key of the command
+	 * @param result future of the command
+	 */
+	private synchronized void release(String key, CompletableFuture<Void> result) {
+		lastCommandByKey.remove(key, result);
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.barco.e2gen2.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.avispl.symphony.dal.communicator.barco.e2gen2.dto.Dimension;
+
+/**
+ * Cached sizes of the sources and screen destinations of the device, with the layer geometry of every (source, destination) pair.
+ * The geometry of the pairs is computed again when the size of a source or destination changes, so a route needs no geometry RPC.
+ *
+ * @author Duy Nguyen
+ * @since 1.0.0
+ */
+public class LayerGeometryTable {
+
+	private Map<Integer, Dimension> sourceDimensions = new HashMap<>();
+	private Map<Integer, Dimension> destinationDimensions = new HashMap<>();
+	// layer geometry by source id (high bits) and destination id (low bits)
+	private final Map<Long, Dimension> layerDimensions = new HashMap<>();
+
+	/**
+	 * Replace the sizes of the sources, the layer geometry is computed again if any size changed
+	 *
+	 * @param dimensions source sizes by source id
+	 */
+	public synchronized void updateSources(Map<Integer, Dimension> dimensions) {
+		if (isSameTopology(sourceDimensions, dimensions)) {
+			return;
+		}
+		sourceDimensions = new HashMap<>(dimensions);
+		rebuild();
+	}
+
+	/**
+	 * Replace the sizes of the screen destinations, the layer geometry is computed again if any size changed
+	 *
+	 * @param dimensions destination sizes by destination id
+	 */
+	public synchronized void updateDestinations(Map<Integer, Dimension> dimensions) {
+		if (isSameTopology(destinationDimensions, dimensions)) {
+			return;
+		}
+		destinationDimensions = new HashMap<>(dimensions);
+		rebuild();
+	}
+
+	/**
+	 * Forget all sizes, they are listed again on next use
+	 */
+	public synchronized void invalidate() {
+		sourceDimensions = new HashMap<>();
+		destinationDimensions = new HashMap<>();
+		layerDimensions.clear();
+	}
+
+	/**
+	 * Get the size of a source
+	 *
+	 * @param sourceId id of the source
+	 * @return copy of the size, null if the source is not in the table
+	 */
+	public synchronized Dimension getSourceDimension(int sourceId) {
+		return copyOf(sourceDimensions.get(sourceId));
+	}
+
+	/**
+	 * Get the size of a screen destination
+	 *
+	 * @param destId id of the destination
+	 * @return copy of the size, null if the destination is not in the table
+	 */
+	public synchronized Dimension getDestinationDimension(int destId) {
+		return copyOf(destinationDimensions.get(destId));
+	}
+
+	/**
+	 * Get the geometry of a layer showing a source on a screen destination
+	 *
+	 * @param sourceId id of the source
+	 * @param destId id of the destination
+	 * @return copy of the geometry, null if the source or destination is not in the table
+	 */
+	public synchronized Dimension getLayerDimension(int sourceId, int destId) {
+		return copyOf(layerDimensions.get(toPairKey(sourceId, destId)));
+	}
+
+	/**
+	 * Calculate the dimension to make the layer center
+	 *
+	 * @param sourceDimension Dimension of the source that will be changed
+	 * @param destinationDimension Dimension of destination
+	 * @return This returns the new dimension
+	 */
+	public static Dimension calculateProperDimension(Dimension sourceDimension, Dimension destinationDimension) {
+		// CASE 1: new dim vsize = dest v size
+		Dimension newDimension = new Dimension();
+		newDimension.setvSize(destinationDimension.getvSize());
+		int newHsize = destinationDimension.getvSize() * sourceDimension.gethSize() / sourceDimension.getvSize();
+		newDimension.sethSize(newHsize);
+		newDimension.setvPos(0);
+		int newHpos = (destinationDimension.gethSize() - newHsize) / 2;
+		newDimension.sethPos(newHpos);
+		if (newDimension.gethSize() > destinationDimension.gethSize() || newDimension.getvSize() > destinationDimension.getvSize()) {
+			// CASE 2:
+			newDimension = new Dimension();
+			newDimension.sethSize(destinationDimension.gethSize());
+			int newVsize = destinationDimension.gethSize() * sourceDimension.getvSize() / sourceDimension.gethSize();
+			newDimension.setvSize(newVsize);
+			newDimension.sethPos(0);
+			int newVPos = (destinationDimension.getvSize() - newVsize) / 2;
+			newDimension.setvPos(newVPos);
+		}
+
+		return newDimension;
+	}
+
+	/**
+	 * Compute the layer geometry of every (source, destination) pair
+	 */
+	private void rebuild() {
+		layerDimensions.clear();
+		for (Map.Entry<Integer, Dimension> source : sourceDimensions.entrySet()) {
+			Dimension sourceDimension = source.getValue();
+			// a source without size has no geometry, the route fails as it did without the table
+			if (sourceDimension.gethSize() == 0 || sourceDimension.getvSize() == 0) {
+				continue;
+			}
+			for (Map.Entry<Integer, Dimension> destination : destinationDimensions.entrySet()) {
+				layerDimensions.put(toPairKey(source.getKey(), destination.getKey()), calculateProperDimension(sourceDimension, destination.getValue()));
+			}
+		}
+	}
+
+	/**
+	 * Check if two size maps hold the same ids and sizes
+	 *
+	 * @param current sizes in the table
+	 * @param updated sizes just listed
+	 * @return true if nothing changed
+	 */
+	private boolean isSameTopology(Map<Integer, Dimension> current, Map<Integer, Dimension> updated) {
+		if (current.size() != updated.size()) {
+			return false;
+		}
+		for (Map.Entry<Integer, Dimension> entry : updated.entrySet()) {
+			Dimension currentDimension = current.get(entry.getKey());
+			if (currentDimension == null || currentDimension.gethSize() != entry.getValue().gethSize() || currentDimension.getvSize() != entry.getValue().getvSize()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Build the key of a (source, destination) pair
+	 *
+	 * @param sourceId id of the source
+	 * @param destId id of the destination
+	 * @return key of the pair
+	 */
+	private long toPairKey(int sourceId, int destId) {
+		return ((long) sourceId << 32) | (destId & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Copy a dimension so the cached one is never changed by a caller
+	 *
+	 * @param dimension the dimension
+	 * @return the copy, null if the dimension is null
+	 */
+	private Dimension copyOf(Dimension dimension) {
+		if (dimension == null) {
+			return null;
+		}
+		return new Dimension(dimension.gethPos(), dimension.getvPos(), dimension.gethSize(), dimension.getvSize());
+	}
+}
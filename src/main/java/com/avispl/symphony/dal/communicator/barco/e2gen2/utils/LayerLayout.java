@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.barco.e2gen2.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+
+/**
+ * Layer structure of one screen destination: normal layers, layers linked to a super destination and mix pairs.
+ * The layout is built once from the layers of listContent and kept while the layer names and links don't change.
+ *
+ * @author Duy Nguyen
+ * @since 1.0.0
+ */
+public class LayerLayout {
+
+	private final String signature;
+	private final int[] normalLayerIndexes;
+	// true at index i when layer i and layer i + 1 are the two layers of a mix
+	private final boolean[] isMixedWithNext;
+	private final int firstNormalLayerIndex;
+
+	/**
+	 * LayerLayout with args constructor
+	 *
+	 * @param signature names and links of the layers the layout was built from
+	 * @param normalLayerIndexes indexes of the layers not linked to a super destination
+	 * @param isMixedWithNext mix flag of each layer
+	 */
+	private LayerLayout(String signature, int[] normalLayerIndexes, boolean[] isMixedWithNext) {
+		this.signature = signature;
+		this.normalLayerIndexes = normalLayerIndexes;
+		this.isMixedWithNext = isMixedWithNext;
+		this.firstNormalLayerIndex = normalLayerIndexes.length > 0 ? normalLayerIndexes[0] : -1;
+	}
+
+	/**
+	 * Build the layout of a screen destination, the current layout is kept if the layers didn't change
+	 *
+	 * @param layerNode layers of the screen destination from listContent
+	 * @param current current layout of the destination, null if there is none
+	 * @return the layout
+	 * @throws ResourceNotReachableException if a layer has no link to read
+	 */
+	public static LayerLayout of(JsonNode layerNode, LayerLayout current) {
+		String signature = toSignature(layerNode);
+		if (current != null && current.signature.equals(signature)) {
+			return current;
+		}
+		int size = layerNode.size();
+		List<Integer> normalLayerIndexes = new ArrayList<>();
+		String[] layerNames = new String[size];
+		for (int i = 0; i < size; i++) {
+			JsonNode currentLayerNode = layerNode.get(i);
+			JsonNode linkDestIdNode = currentLayerNode.get(BarcoE2Constant.LINK_DEST_ID);
+			if (linkDestIdNode == null) {
+				throw new ResourceNotReachableException(String.format("Cannot get layer at index %s", i));
+			}
+			if (linkDestIdNode.asInt() == -1) {
+				normalLayerIndexes.add(i);
+			}
+			JsonNode nameNode = currentLayerNode.get(BarcoE2Constant.NAME);
+			layerNames[i] = nameNode != null ? nameNode.asText() : null;
+		}
+		boolean[] isMixedWithNext = new boolean[size];
+		for (int i = 0; i + 1 < size; i++) {
+			isMixedWithNext[i] = isMixPair(layerNames[i], layerNames[i + 1]);
+		}
+		int[] normalLayers = new int[normalLayerIndexes.size()];
+		for (int i = 0; i < normalLayers.length; i++) {
+			normalLayers[i] = normalLayerIndexes.get(i);
+		}
+		return new LayerLayout(signature, normalLayers, isMixedWithNext);
+	}
+
+	/**
+	 * Retrieves {@code {@link #firstNormalLayerIndex}}
+	 *
+	 * @return value of {@link #firstNormalLayerIndex}, -1 if all layers are linked to a super destination
+	 */
+	public int getFirstNormalLayerIndex() {
+		return firstNormalLayerIndex;
+	}
+
+	/**
+	 * Retrieves the indexes of the layers not linked to a super destination
+	 *
+	 * @return copy of the indexes
+	 */
+	public int[] getNormalLayerIndexes() {
+		return normalLayerIndexes.clone();
+	}
+
+	/**
+	 * Check if a layer is the first layer of a mix
+	 *
+	 * @param layerIndex index of the layer
+	 * @return true if the layer and the next one are mixed
+	 */
+	public boolean isMixedLayer(int layerIndex) {
+		return layerIndex >= 0 && layerIndex < isMixedWithNext.length && isMixedWithNext[layerIndex];
+	}
+
+	/**
+	 * Two layers are a mix when their names have the same length and the same prefix before the dash, for example Layer1-A and Layer1-B
+	 *
+	 * @param firstLayerName name of the first layer
+	 * @param secondLayerName name of the next layer
+	 * @return true if the layers are a mix pair
+	 */
+	private static boolean isMixPair(String firstLayerName, String secondLayerName) {
+		if (firstLayerName == null || secondLayerName == null) {
+			return false;
+		}
+		if (firstLayerName.length() == secondLayerName.length() && firstLayerName.contains(BarcoE2Constant.DASH) && secondLayerName.contains(BarcoE2Constant.DASH)) {
+			String[] firstLayerSplit = firstLayerName.split(BarcoE2Constant.DASH);
+			String[] secondLayerSplit = secondLayerName.split(BarcoE2Constant.DASH);
+			return firstLayerSplit[0].equals(secondLayerSplit[0]);
+		}
+		return false;
+	}
+
+	/**
+	 * Build the signature of the layers: the name and links of each layer
+	 *
+	 * @param layerNode layers of the screen destination
+	 * @return the signature
+	 */
+	private static String toSignature(JsonNode layerNode) {
+		StringBuilder signature = new StringBuilder();
+		for (int i = 0; i < layerNode.size(); i++) {
+			JsonNode currentLayerNode = layerNode.get(i);
+			signature.append(currentLayerNode.path(BarcoE2Constant.NAME).asText()).append('|')
+					.append(currentLayerNode.path(BarcoE2Constant.LINK_DEST_ID).asText()).append('|')
+					.append(currentLayerNode.path(BarcoE2Constant.LINK_LAYER_ID).asText()).append(';');
+		}
+		return signature.toString();
+	}
+}
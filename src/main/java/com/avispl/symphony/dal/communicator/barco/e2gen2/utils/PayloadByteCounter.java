@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.barco.e2gen2.utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Payload bytes sent and received per JSON-RPC method since the last snapshot.
+ * The requests are counted as written, the responses as read by the communicator once the HTTP client decompressed them,
+ * so a compressed response counts its decoded size, not the bytes on the wire.
+ *
+ * @author Duy Nguyen
+ * @since 1.0.0
+ */
+public class PayloadByteCounter {
+
+	// sent and received bytes by method, sorted by method for the statistics
+	private Map<String, long[]> bytesByMethod = new TreeMap<>();
+
+	/**
+	 * Count the bytes of one request
+	 *
+	 * @param method name of the method
+	 * @param sentBytes size of the request body
+	 * @param receivedBytes size of the response body
+	 */
+	public synchronized void record(String method, int sentBytes, int receivedBytes) {
+		long[] bytes = bytesByMethod.computeIfAbsent(method, key -> new long[2]);
+		bytes[0] += sentBytes;
+		bytes[1] += receivedBytes;
+	}
+
+	/**
+	 * Get the bytes counted since the last snapshot and start counting again
+	 *
+	 * @return sent and received bytes by method
+	 */
+	public synchronized Map<String, long[]> snapshot() {
+		Map<String, long[]> counted = bytesByMethod;
+		bytesByMethod = new TreeMap<>();
+		return counted;
+	}
+
+	/**
+	 * Forget the bytes counted since the last snapshot
+	 */
+	public synchronized void clear() {
+		bytesByMethod = new TreeMap<>();
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.barco.e2gen2.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cached list of the presets of the device, indexed by id and by name.
+ * The catalogue expires after its time to live, or when it is invalidated because a lookup missed.
+ *
+ * @author Duy Nguyen
+ * @since 1.0.0
+ */
+public class PresetCatalogue {
+
+	private final Map<Integer, String> namesById = new LinkedHashMap<>();
+	private final Map<String, Integer> idsByName = new HashMap<>();
+	private long refreshedAt;
+	private boolean isLoaded = false;
+	private long timeToLive;
+
+	/**
+	 * PresetCatalogue with arg constructor
+	 *
+	 * @param timeToLive time in milliseconds the catalogue is used before it is listed again
+	 */
+	public PresetCatalogue(long timeToLive) {
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Replace the content of the catalogue with a freshly listed one
+	 *
+	 * @param presets preset names by id, in the order of the device
+	 */
+	public synchronized void update(Map<Integer, String> presets) {
+		namesById.clear();
+		idsByName.clear();
+		for (Map.Entry<Integer, String> preset : presets.entrySet()) {
+			namesById.put(preset.getKey(), preset.getValue());
+			idsByName.put(preset.getValue(), preset.getKey());
+		}
+		refreshedAt = System.currentTimeMillis();
+		isLoaded = true;
+	}
+
+	/**
+	 * Check if the catalogue has to be listed again
+	 *
+	 * @return true if the catalogue was never loaded, was invalidated or outlived its time to live
+	 */
+	public synchronized boolean isExpired() {
+		return !isLoaded || System.currentTimeMillis() - refreshedAt >= timeToLive;
+	}
+
+	/**
+	 * Force the catalogue to be listed again on next use
+	 */
+	public synchronized void invalidate() {
+		isLoaded = false;
+	}
+
+	/**
+	 * Get the name of a preset
+	 *
+	 * @param id id of the preset
+	 * @return name of the preset, null if the id is not in the catalogue
+	 */
+	public synchronized String getName(int id) {
+		return namesById.get(id);
+	}
+
+	/**
+	 * Check if a preset exists
+	 *
+	 * @param name name of the preset
+	 * @return true if the name is in the catalogue
+	 */
+	public synchronized boolean containsName(String name) {
+		return idsByName.containsKey(name);
+	}
+
+	/**
+	 * Retrieves the preset names in the order of the device
+	 *
+	 * @return list of preset names
+	 */
+	public synchronized List<String> getNames() {
+		return new ArrayList<>(namesById.values());
+	}
+
+	/**
+	 * Sets {@code timeToLive}
+	 *
+	 * @param timeToLive the {@code long} field
+	 */
+	public synchronized void setTimeToLive(long timeToLive) {
+		this.timeToLive = timeToLive;
+	}
+}
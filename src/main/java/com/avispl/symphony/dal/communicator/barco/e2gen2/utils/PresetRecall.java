@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.barco.e2gen2.utils;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A preset recall sent to the device, pending until lastRecalledPreset reports the preset
+ *
+ * @author Duy Nguyen
+ * @since 1.0.0
+ */
+public class PresetRecall {
+
+	private final String presetName;
+	private final long startedAt = System.currentTimeMillis();
+	private PresetRecallState state = PresetRecallState.PENDING;
+	private long completedAt;
+	private final CompletableFuture<PresetRecallState> completion = new CompletableFuture<>();
+
+	/**
+	 * PresetRecall with arg constructor
+	 *
+	 * @param presetName name of the recalled preset
+	 */
+	public PresetRecall(String presetName) {
+		this.presetName = presetName;
+	}
+
+	/**
+	 * Complete the recall
+	 *
+	 * @param state final state of the recall
+	 */
+	public synchronized void complete(PresetRecallState state) {
+		if (this.state == PresetRecallState.PENDING) {
+			this.state = state;
+			this.completedAt = System.currentTimeMillis();
+			completion.complete(state);
+		}
+	}
+
+	/**
+	 * Retrieves {@code {@link #completion}}
+	 *
+	 * @return value of {@link #completion}, completed with the final state of the recall
+	 */
+	public CompletableFuture<PresetRecallState> getCompletion() {
+		return completion;
+	}
+
+	/**
+	 * Retrieves {@code {@link #presetName}}
+	 *
+	 * @return value of {@link #presetName}
+	 */
+	public String getPresetName() {
+		return presetName;
+	}
+
+	/**
+	 * Retrieves {@code {@link #startedAt}}
+	 *
+	 * @return value of {@link #startedAt}
+	 */
+	public long getStartedAt() {
+		return startedAt;
+	}
+
+	/**
+	 * Retrieves {@code {@link #state}}
+	 *
+	 * @return value of {@link #state}
+	 */
+	public synchronized PresetRecallState getState() {
+		return state;
+	}
+
+	/**
+	 * Get the latency of the recall, the time elapsed so far while it is pending
+	 *
+	 * @return latency in milliseconds
+	 */
+	public synchronized long getLatency() {
+		long end = state == PresetRecallState.PENDING ? System.currentTimeMillis() : completedAt;
+		return end - startedAt;
+	}
+}
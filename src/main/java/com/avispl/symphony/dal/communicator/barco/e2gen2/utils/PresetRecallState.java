@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.barco.e2gen2.utils;
+
+/**
+ * State of an asynchronous preset recall
+ *
+ * @author Duy Nguyen
+ * @since 1.0.0
+ */
+public enum PresetRecallState {
+
+	PENDING("Pending"),
+	CONFIRMED("Confirmed"),
+	UNCONFIRMED("Unconfirmed"),
+	FAILED("Failed");
+
+	private final String value;
+
+	/**
+	 * PresetRecallState with arg constructor
+	 *
+	 * @param value value of PresetRecallState
+	 */
+	PresetRecallState(String value) {
+		this.value = value;
+	}
+
+	/**
+	 * Retrieves {@code {@link #value}}
+	 *
+	 * @return value of {@link #value}
+	 */
+	public String getValue() {
+		return value;
+	}
+}
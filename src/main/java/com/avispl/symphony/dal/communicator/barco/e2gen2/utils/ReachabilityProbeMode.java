@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.barco.e2gen2.utils;
+
+/**
+ * Liveness check done before every poll
+ *
+ * @author Duy Nguyen
+ * @since 1.0.0
+ */
+public enum ReachabilityProbeMode {
+
+	/**
+	 * ICMP echo through icmp4j
+	 */
+	ICMP,
+	/**
+	 * TCP connect to the JSON-RPC port
+	 */
+	TCP,
+	/**
+	 * No liveness check, the poll starts with the RPC calls
+	 */
+	NONE;
+
+	/**
+	 * Get probe mode by name, case-insensitive
+	 *
+	 * @param name name of the mode from the adapter properties
+	 * @return Enum of ReachabilityProbeMode
+	 */
+	public static ReachabilityProbeMode getByName(String name) {
+		for (ReachabilityProbeMode mode : ReachabilityProbeMode.values()) {
+			if (mode.name().equalsIgnoreCase(name.trim())) {
+				return mode;
+			}
+		}
+		throw new IllegalArgumentException("Cannot find the reachability probe mode with name: " + name);
+	}
+}
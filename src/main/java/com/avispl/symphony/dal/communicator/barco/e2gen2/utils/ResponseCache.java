@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.barco.e2gen2.utils;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.avispl.symphony.dal.communicator.barco.e2gen2.dto.RpcResponse;
+
+/**
+ * Last raw response of every (method, params) request with a cache key, the poll requests, with the RpcResponse parsed from it.
+ * When the device answers with the same bytes as the previous poll, the parsed response is reused and the body is not parsed again.
+ * DTOs derived from the nodes of a cached response are kept too, they are dropped as soon as any response changes.
+ *
+ * @author Duy Nguyen
+ * @since 1.0.0
+ */
+public class ResponseCache {
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	// DTOs by the node they were read from, the node instances stay the same while the responses don't change
+	private final Map<JsonNode, Object> derivedByNode = new IdentityHashMap<>();
+
+	/**
+	 * Raw body of a response with the RpcResponse parsed from it
+	 */
+	private static class Entry {
+		private final byte[] body;
+		private final RpcResponse response;
+
+		/**
+		 * Entry with args constructor
+		 *
+		 * @param body raw body of the response
+		 * @param response RpcResponse parsed from the body
+		 */
+		private Entry(byte[] body, RpcResponse response) {
+			this.body = body;
+			this.response = response;
+		}
+
+		/**
+		 * Check if a body has the same bytes as the cached one
+		 *
+		 * @param otherBody raw body of the response
+		 * @return true if the bodies are the same
+		 */
+		private boolean isSameBody(byte[] otherBody) {
+			return Arrays.equals(otherBody, body);
+		}
+	}
+
+	/**
+	 * Get the parsed response of a request if the device answered with the same body as last time
+	 *
+	 * @param key key of the request
+	 * @param body raw body of the response
+	 * @return the cached RpcResponse, null if there is none or the body changed
+	 */
+	public RpcResponse get(String key, byte[] body) {
+		Entry entry = entries.get(key);
+		if (entry != null && body != null && entry.isSameBody(body)) {
+			return entry.response;
+		}
+		return null;
+	}
+
+	/**
+	 * Keep the parsed response of a request, the derived DTOs are dropped if it replaces another response
+	 *
+	 * @param key key of the request
+	 * @param body raw body of the response
+	 * @param response RpcResponse parsed from the body
+	 */
+	public void put(String key, byte[] body, RpcResponse response) {
+		if (body == null || response == null) {
+			return;
+		}
+		if (entries.put(key, new Entry(body, response)) != null) {
+			synchronized (derivedByNode) {
+				derivedByNode.clear();
+			}
+		}
+	}
+
+	/**
+	 * Get the DTO read from a node of a cached response
+	 *
+	 * @param node the node
+	 * @param tClass class of the DTO
+	 * @param <T> type of the DTO
+	 * @return the DTO, null if it was not derived from this node instance
+	 */
+	public <T> T getDerived(JsonNode node, Class<T> tClass) {
+		Object derived;
+		synchronized (derivedByNode) {
+			derived = derivedByNode.get(node);
+		}
+		return tClass.isInstance(derived) ? tClass.cast(derived) : null;
+	}
+
+	/**
+	 * Keep the DTO read from a node
+	 *
+	 * @param node the node
+	 * @param derived the DTO
+	 */
+	public void putDerived(JsonNode node, Object derived) {
+		if (node == null || derived == null) {
+			return;
+		}
+		synchronized (derivedByNode) {
+			derivedByNode.put(node, derived);
+		}
+	}
+
+	/**
+	 * Forget all responses and DTOs
+	 */
+	public void clear() {
+		entries.clear();
+		synchronized (derivedByNode) {
+			derivedByNode.clear();
+		}
+	}
+}
@@ -0,0 +1,564 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.barco.e2gen2.utils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.avispl.symphony.dal.communicator.barco.e2gen2.dto.LayerDTO;
+
+/**
+ * Routing state of the whole frame in primitive arrays, updated from the polls and from the successful routing controls.
+ * Screen destinations are indexed by destination id and layer index, aux destinations by destination id.
+ * For each source the destinations showing it on program and on preview are kept as bit sets with a tally counter,
+ * and for each screen destination the source on program and on preview is indexed,
+ * both maintained incrementally as the layers change, so the queries run in constant time without allocation.
+ *
+ * @author Duy Nguyen
+ * @since 1.0.0
+ */
+public class RoutingMatrix {
+
+	/**
+	 * Destinations showing each source, as bit sets by source id then destination id, with the number of destinations of each source
+	 */
+	private static class TallySet {
+		private long[][] screenMasks = new long[0][];
+		private long[][] auxMasks = new long[0][];
+		private int[] counts = new int[0];
+
+		/**
+		 * Set or unset the bit of a destination in the set of a source, the count of the source follows the bit
+		 *
+		 * @param isScreenDest true for a screen destination, false for an aux destination
+		 * @param sourceId source id
+		 * @param destId destination id
+		 * @param isShown true to set, false to unset
+		 */
+		void set(boolean isScreenDest, int sourceId, int destId, boolean isShown) {
+			if (sourceId < 0 || destId < 0) {
+				return;
+			}
+			long[][] masks = isScreenDest ? screenMasks : auxMasks;
+			if (sourceId >= masks.length) {
+				if (!isShown) {
+					return;
+				}
+				int length = masks.length;
+				masks = Arrays.copyOf(masks, sourceId + 1);
+				Arrays.fill(masks, length, sourceId + 1, NO_BITS);
+				if (isScreenDest) {
+					screenMasks = masks;
+				} else {
+					auxMasks = masks;
+				}
+			}
+			if (sourceId >= counts.length) {
+				counts = Arrays.copyOf(counts, sourceId + 1);
+			}
+			int wordIndex = destId >>> 6;
+			if (wordIndex >= masks[sourceId].length) {
+				if (!isShown) {
+					return;
+				}
+				masks[sourceId] = Arrays.copyOf(masks[sourceId], wordIndex + 1);
+			}
+			long bit = 1L << destId;
+			boolean wasShown = (masks[sourceId][wordIndex] & bit) != 0;
+			if (isShown && !wasShown) {
+				masks[sourceId][wordIndex] |= bit;
+				counts[sourceId]++;
+			} else if (!isShown && wasShown) {
+				masks[sourceId][wordIndex] &= ~bit;
+				counts[sourceId]--;
+			}
+		}
+
+		/**
+		 * Check if a destination shows a source
+		 *
+		 * @param isScreenDest true for a screen destination, false for an aux destination
+		 * @param sourceId source id
+		 * @param destId destination id
+		 * @return true if the bit is set
+		 */
+		boolean contains(boolean isScreenDest, int sourceId, int destId) {
+			long[][] masks = isScreenDest ? screenMasks : auxMasks;
+			if (sourceId < 0 || sourceId >= masks.length || destId < 0 || (destId >>> 6) >= masks[sourceId].length) {
+				return false;
+			}
+			return (masks[sourceId][destId >>> 6] & (1L << destId)) != 0;
+		}
+
+		/**
+		 * Find the next destination showing a source
+		 *
+		 * @param isScreenDest true for screen destinations, false for aux destinations
+		 * @param sourceId source id
+		 * @param fromDestId first destination id to check
+		 * @return destination id, -1 if there is no more destination
+		 */
+		int next(boolean isScreenDest, int sourceId, int fromDestId) {
+			long[][] masks = isScreenDest ? screenMasks : auxMasks;
+			if (sourceId < 0 || sourceId >= masks.length || fromDestId < 0) {
+				return -1;
+			}
+			long[] words = masks[sourceId];
+			int wordIndex = fromDestId >>> 6;
+			if (wordIndex >= words.length) {
+				return -1;
+			}
+			long word = words[wordIndex] & (-1L << fromDestId);
+			while (true) {
+				if (word != 0) {
+					return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+				}
+				if (++wordIndex == words.length) {
+					return -1;
+				}
+				word = words[wordIndex];
+			}
+		}
+
+		/**
+		 * Get the number of screen and aux destinations showing a source
+		 *
+		 * @param sourceId source id
+		 * @return number of destinations
+		 */
+		int count(int sourceId) {
+			return sourceId >= 0 && sourceId < counts.length ? counts[sourceId] : 0;
+		}
+	}
+
+	public static final int NO_SOURCE = -1;
+
+	// layer state of a screen destination: LAYER_FIELDS ints per layer
+	private static final int LAYER_FIELDS = 5;
+	private static final int SOURCE_ID = 0;
+	private static final int PGM_MODE = 1;
+	private static final int PVW_MODE = 2;
+	private static final int LINK_DEST_ID = 3;
+	private static final int LINK_LAYER_ID = 4;
+	private static final int[] NO_LAYER = new int[0];
+	private static final long[] NO_BITS = new long[0];
+
+	private int[][] screenLayers = new int[0][];
+	private boolean[] isScreenMixed = new boolean[0];
+	// source of the first normal layer on program/preview of each screen destination
+	private int[] screenProgramSourceIds = new int[0];
+	private int[] screenPreviewSourceIds = new int[0];
+	private int[] auxProgramSourceIds = new int[0];
+	private int[] auxPreviewSourceIds = new int[0];
+	private TallySet program = new TallySet();
+	private TallySet preview = new TallySet();
+	// incremented on every change of the routing state
+	private long tallyVersion;
+
+	/**
+	 * Replace the state of a screen destination with its layers from listContent
+	 *
+	 * @param destId screen destination id
+	 * @param layerNode layers of the screen destination
+	 * @param isMixed true if the first normal layer of the destination is a mix pair
+	 */
+	public synchronized void updateScreenDestination(int destId, JsonNode layerNode, boolean isMixed) {
+		ensureScreenCapacity(destId);
+		int[] layers = new int[layerNode.size() * LAYER_FIELDS];
+		for (int i = 0; i < layerNode.size(); i++) {
+			JsonNode currentLayerNode = layerNode.get(i);
+			int offset = i * LAYER_FIELDS;
+			layers[offset + SOURCE_ID] = currentLayerNode.path(BarcoE2Constant.LAST_SRC_IDX).asInt(NO_SOURCE);
+			layers[offset + PGM_MODE] = currentLayerNode.path(BarcoE2Constant.PGM_MODE).asInt();
+			layers[offset + PVW_MODE] = currentLayerNode.path(BarcoE2Constant.PVW_MODE).asInt();
+			layers[offset + LINK_DEST_ID] = currentLayerNode.path(BarcoE2Constant.LINK_DEST_ID).asInt(-1);
+			layers[offset + LINK_LAYER_ID] = currentLayerNode.path(BarcoE2Constant.LINK_LAYER_ID).asInt(-1);
+		}
+		if (isScreenMixed[destId] == isMixed && Arrays.equals(screenLayers[destId], layers)) {
+			return;
+		}
+		setScreenTally(destId, false);
+		screenLayers[destId] = layers;
+		isScreenMixed[destId] = isMixed;
+		setScreenTally(destId, true);
+		indexScreenSources(destId);
+		tallyVersion++;
+	}
+
+	/**
+	 * Apply layers written by a successful changeContent to a screen destination
+	 *
+	 * @param destId screen destination id
+	 * @param layerDTOList layers sent to the device
+	 */
+	public synchronized void updateScreenLayers(int destId, List<LayerDTO> layerDTOList) {
+		updateScreenLayers(destId, layerDTOList, Collections.emptyList());
+	}
+
+	/**
+	 * Apply layers cleared by a successful clearLayers and layers written by the changeContent that followed it to a screen destination
+	 *
+	 * @param destId screen destination id
+	 * @param layerDTOList layers sent to the device
+	 * @param clearedLayerIds ids of the layers taken off program and preview
+	 */
+	public synchronized void updateScreenLayers(int destId, List<LayerDTO> layerDTOList, List<Integer> clearedLayerIds) {
+		if (destId < 0 || destId >= screenLayers.length) {
+			// the destination is not known yet, the next poll fills it
+			return;
+		}
+		int[] layers = screenLayers[destId];
+		boolean isChanged = false;
+		for (LayerDTO layerDTO : layerDTOList) {
+			int offset = layerDTO.getId() * LAYER_FIELDS;
+			if (offset >= 0 && offset < layers.length && (layers[offset + SOURCE_ID] != layerDTO.getLastSrcIdx() || layers[offset + PGM_MODE] != layerDTO.getPgmMode()
+					|| layers[offset + PVW_MODE] != layerDTO.getPvmMode())) {
+				isChanged = true;
+				break;
+			}
+		}
+		for (int i = 0; i < clearedLayerIds.size() && !isChanged; i++) {
+			int offset = clearedLayerIds.get(i) * LAYER_FIELDS;
+			isChanged = offset >= 0 && offset < layers.length && (layers[offset + PGM_MODE] != 0 || layers[offset + PVW_MODE] != 0);
+		}
+		if (!isChanged) {
+			return;
+		}
+		setScreenTally(destId, false);
+		for (Integer clearedLayerId : clearedLayerIds) {
+			int offset = clearedLayerId * LAYER_FIELDS;
+			if (offset < 0 || offset >= layers.length) {
+				continue;
+			}
+			layers[offset + PGM_MODE] = 0;
+			layers[offset + PVW_MODE] = 0;
+		}
+		for (LayerDTO layerDTO : layerDTOList) {
+			int offset = layerDTO.getId() * LAYER_FIELDS;
+			if (offset < 0 || offset >= layers.length) {
+				continue;
+			}
+			layers[offset + SOURCE_ID] = layerDTO.getLastSrcIdx();
+			layers[offset + PGM_MODE] = layerDTO.getPgmMode();
+			layers[offset + PVW_MODE] = layerDTO.getPvmMode();
+		}
+		setScreenTally(destId, true);
+		indexScreenSources(destId);
+		tallyVersion++;
+	}
+
+	/**
+	 * Replace the state of an aux destination
+	 *
+	 * @param destId aux destination id
+	 * @param programSourceId source on program, {@link #NO_SOURCE} if none
+	 * @param previewSourceId source on preview, {@link #NO_SOURCE} if none
+	 */
+	public synchronized void updateAuxDestination(int destId, int programSourceId, int previewSourceId) {
+		if (destId < 0) {
+			return;
+		}
+		if (destId >= auxProgramSourceIds.length) {
+			int length = auxProgramSourceIds.length;
+			auxProgramSourceIds = Arrays.copyOf(auxProgramSourceIds, destId + 1);
+			auxPreviewSourceIds = Arrays.copyOf(auxPreviewSourceIds, destId + 1);
+			Arrays.fill(auxProgramSourceIds, length, destId + 1, NO_SOURCE);
+			Arrays.fill(auxPreviewSourceIds, length, destId + 1, NO_SOURCE);
+		}
+		if (auxProgramSourceIds[destId] == programSourceId && auxPreviewSourceIds[destId] == previewSourceId) {
+			return;
+		}
+		program.set(false, auxProgramSourceIds[destId], destId, false);
+		preview.set(false, auxPreviewSourceIds[destId], destId, false);
+		auxProgramSourceIds[destId] = programSourceId;
+		auxPreviewSourceIds[destId] = previewSourceId;
+		program.set(false, programSourceId, destId, true);
+		preview.set(false, previewSourceId, destId, true);
+		tallyVersion++;
+	}
+
+	/**
+	 * Forget the whole routing state
+	 */
+	public synchronized void clear() {
+		screenLayers = new int[0][];
+		isScreenMixed = new boolean[0];
+		screenProgramSourceIds = new int[0];
+		screenPreviewSourceIds = new int[0];
+		auxProgramSourceIds = new int[0];
+		auxPreviewSourceIds = new int[0];
+		program = new TallySet();
+		preview = new TallySet();
+		tallyVersion++;
+	}
+
+	/**
+	 * Get the source on program of a destination: the source of the first normal layer on program for a screen destination
+	 *
+	 * @param isScreenDest true for a screen destination, false for an aux destination
+	 * @param destId destination id
+	 * @return source id, {@link #NO_SOURCE} if nothing is on program or the destination is unknown
+	 */
+	public synchronized int getProgramSource(boolean isScreenDest, int destId) {
+		int[] sourceIds = isScreenDest ? screenProgramSourceIds : auxProgramSourceIds;
+		return destId >= 0 && destId < sourceIds.length ? sourceIds[destId] : NO_SOURCE;
+	}
+
+	/**
+	 * Get the source on preview of a destination: the source of the first normal layer on preview for a screen destination
+	 *
+	 * @param isScreenDest true for a screen destination, false for an aux destination
+	 * @param destId destination id
+	 * @return source id, {@link #NO_SOURCE} if nothing is on preview or the destination is unknown
+	 */
+	public synchronized int getPreviewSource(boolean isScreenDest, int destId) {
+		int[] sourceIds = isScreenDest ? screenPreviewSourceIds : auxPreviewSourceIds;
+		return destId >= 0 && destId < sourceIds.length ? sourceIds[destId] : NO_SOURCE;
+	}
+
+	/**
+	 * Get the number of layers of a screen destination
+	 *
+	 * @param destId screen destination id
+	 * @return number of layers, 0 if the destination is unknown
+	 */
+	public synchronized int getLayerCount(int destId) {
+		return getLayers(destId).length / LAYER_FIELDS;
+	}
+
+	/**
+	 * Get the source of a layer
+	 *
+	 * @param destId screen destination id
+	 * @param layerIndex index of the layer
+	 * @return source id, {@link #NO_SOURCE} if the layer is empty or unknown
+	 */
+	public synchronized int getLayerSource(int destId, int layerIndex) {
+		return getLayerField(destId, layerIndex, SOURCE_ID, NO_SOURCE);
+	}
+
+	/**
+	 * Get the program mode of a layer
+	 *
+	 * @param destId screen destination id
+	 * @param layerIndex index of the layer
+	 * @return 1 if the layer is on program, 0 otherwise
+	 */
+	public synchronized int getLayerProgramMode(int destId, int layerIndex) {
+		return getLayerField(destId, layerIndex, PGM_MODE, 0);
+	}
+
+	/**
+	 * Get the preview mode of a layer
+	 *
+	 * @param destId screen destination id
+	 * @param layerIndex index of the layer
+	 * @return 1 if the layer is on preview, 0 otherwise
+	 */
+	public synchronized int getLayerPreviewMode(int destId, int layerIndex) {
+		return getLayerField(destId, layerIndex, PVW_MODE, 0);
+	}
+
+	/**
+	 * Get the super destination a layer is linked to
+	 *
+	 * @param destId screen destination id
+	 * @param layerIndex index of the layer
+	 * @return linked destination id, -1 for a normal layer
+	 */
+	public synchronized int getLayerLinkDestId(int destId, int layerIndex) {
+		return getLayerField(destId, layerIndex, LINK_DEST_ID, -1);
+	}
+
+	/**
+	 * Get the super layer a layer is linked to
+	 *
+	 * @param destId screen destination id
+	 * @param layerIndex index of the layer
+	 * @return linked layer id, -1 for a normal layer
+	 */
+	public synchronized int getLayerLinkLayerId(int destId, int layerIndex) {
+		return getLayerField(destId, layerIndex, LINK_LAYER_ID, -1);
+	}
+
+	/**
+	 * Check if the first normal layer of a screen destination is a mix pair
+	 *
+	 * @param destId screen destination id
+	 * @return true if the destination is mixed
+	 */
+	public synchronized boolean isMixed(int destId) {
+		return destId >= 0 && destId < isScreenMixed.length && isScreenMixed[destId];
+	}
+
+	/**
+	 * Check if a source is on program of a destination
+	 *
+	 * @param isScreenDest true for a screen destination, false for an aux destination
+	 * @param sourceId source id
+	 * @param destId destination id
+	 * @return true if the source is on program
+	 */
+	public synchronized boolean isOnProgram(boolean isScreenDest, int sourceId, int destId) {
+		return program.contains(isScreenDest, sourceId, destId);
+	}
+
+	/**
+	 * Check if a source is on preview of a destination
+	 *
+	 * @param isScreenDest true for a screen destination, false for an aux destination
+	 * @param sourceId source id
+	 * @param destId destination id
+	 * @return true if the source is on preview
+	 */
+	public synchronized boolean isOnPreview(boolean isScreenDest, int sourceId, int destId) {
+		return preview.contains(isScreenDest, sourceId, destId);
+	}
+
+	/**
+	 * Find the next destination showing a source on program, to walk all of them without allocation
+	 *
+	 * @param isScreenDest true for screen destinations, false for aux destinations
+	 * @param sourceId source id
+	 * @param fromDestId first destination id to check
+	 * @return destination id, -1 if there is no more destination
+	 */
+	public synchronized int nextDestinationOnProgram(boolean isScreenDest, int sourceId, int fromDestId) {
+		return program.next(isScreenDest, sourceId, fromDestId);
+	}
+
+	/**
+	 * Find the next destination showing a source on preview, to walk all of them without allocation
+	 *
+	 * @param isScreenDest true for screen destinations, false for aux destinations
+	 * @param sourceId source id
+	 * @param fromDestId first destination id to check
+	 * @return destination id, -1 if there is no more destination
+	 */
+	public synchronized int nextDestinationOnPreview(boolean isScreenDest, int sourceId, int fromDestId) {
+		return preview.next(isScreenDest, sourceId, fromDestId);
+	}
+
+	/**
+	 * Get the number of screen and aux destinations showing a source on program
+	 *
+	 * @param sourceId source id
+	 * @return number of destinations
+	 */
+	public synchronized int getProgramDestinationCount(int sourceId) {
+		return program.count(sourceId);
+	}
+
+	/**
+	 * Get the number of screen and aux destinations showing a source on preview
+	 *
+	 * @param sourceId source id
+	 * @return number of destinations
+	 */
+	public synchronized int getPreviewDestinationCount(int sourceId) {
+		return preview.count(sourceId);
+	}
+
+	/**
+	 * Retrieves {@code {@link #tallyVersion}}
+	 *
+	 * @return value of {@link #tallyVersion}, changes every time the routing state of a destination changes
+	 */
+	public synchronized long getTallyVersion() {
+		return tallyVersion;
+	}
+
+	/**
+	 * Set or unset the program and preview bits of every source shown by a screen destination
+	 *
+	 * @param destId screen destination id
+	 * @param isShown true to set, false to unset
+	 */
+	private void setScreenTally(int destId, boolean isShown) {
+		int[] layers = screenLayers[destId];
+		for (int offset = 0; offset < layers.length; offset += LAYER_FIELDS) {
+			int sourceId = layers[offset + SOURCE_ID];
+			if (sourceId < 0 || layers[offset + LINK_DEST_ID] != -1) {
+				continue;
+			}
+			if (layers[offset + PGM_MODE] == 1) {
+				program.set(true, sourceId, destId, isShown);
+			}
+			if (layers[offset + PVW_MODE] == 1) {
+				preview.set(true, sourceId, destId, isShown);
+			}
+		}
+	}
+
+	/**
+	 * Index the sources of the first normal layers on program and on preview of a screen destination
+	 *
+	 * @param destId screen destination id
+	 */
+	private void indexScreenSources(int destId) {
+		int[] layers = screenLayers[destId];
+		int programSourceId = NO_SOURCE;
+		int previewSourceId = NO_SOURCE;
+		for (int offset = 0; offset < layers.length && (programSourceId == NO_SOURCE || previewSourceId == NO_SOURCE); offset += LAYER_FIELDS) {
+			if (layers[offset + SOURCE_ID] < 0 || layers[offset + LINK_DEST_ID] != -1) {
+				continue;
+			}
+			if (programSourceId == NO_SOURCE && layers[offset + PGM_MODE] == 1) {
+				programSourceId = layers[offset + SOURCE_ID];
+			}
+			if (previewSourceId == NO_SOURCE && layers[offset + PVW_MODE] == 1) {
+				previewSourceId = layers[offset + SOURCE_ID];
+			}
+		}
+		screenProgramSourceIds[destId] = programSourceId;
+		screenPreviewSourceIds[destId] = previewSourceId;
+	}
+
+	/**
+	 * Grow the screen arrays so they hold a destination
+	 *
+	 * @param destId screen destination id
+	 */
+	private void ensureScreenCapacity(int destId) {
+		if (destId < screenLayers.length) {
+			return;
+		}
+		int length = screenLayers.length;
+		screenLayers = Arrays.copyOf(screenLayers, destId + 1);
+		Arrays.fill(screenLayers, length, destId + 1, NO_LAYER);
+		isScreenMixed = Arrays.copyOf(isScreenMixed, destId + 1);
+		screenProgramSourceIds = Arrays.copyOf(screenProgramSourceIds, destId + 1);
+		screenPreviewSourceIds = Arrays.copyOf(screenPreviewSourceIds, destId + 1);
+		Arrays.fill(screenProgramSourceIds, length, destId + 1, NO_SOURCE);
+		Arrays.fill(screenPreviewSourceIds, length, destId + 1, NO_SOURCE);
+	}
+
+	/**
+	 * Get the layer state of a screen destination
+	 *
+	 * @param destId screen destination id
+	 * @return layer state, empty if the destination is unknown
+	 */
+	private int[] getLayers(int destId) {
+		return destId >= 0 && destId < screenLayers.length ? screenLayers[destId] : NO_LAYER;
+	}
+
+	/**
+	 * Get one field of a layer
+	 *
+	 * @param destId screen destination id
+	 * @param layerIndex index of the layer
+	 * @param field field of the layer
+	 * @param defaultValue value if the layer is unknown
+	 * @return value of the field
+	 */
+	private int getLayerField(int destId, int layerIndex, int field, int defaultValue) {
+		int[] layers = getLayers(destId);
+		int offset = layerIndex * LAYER_FIELDS;
+		return layerIndex >= 0 && offset < layers.length ? layers[offset + field] : defaultValue;
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.barco.e2gen2.utils;
+
+/**
+ * Check done before a route is written, to skip routes the destination already shows on program
+ *
+ * @author Duy Nguyen
+ * @since 1.0.0
+ */
+public enum RoutingNoOpCheck {
+
+	/**
+	 * Compare with the routing state of the last poll
+	 */
+	CACHED,
+	/**
+	 * Read the content of the destination before writing
+	 */
+	FRESH,
+	/**
+	 * Always write the route
+	 */
+	OFF;
+
+	/**
+	 * Get no-op check by name, case-insensitive
+	 *
+	 * @param name name of the check from the adapter properties
+	 * @return Enum of RoutingNoOpCheck
+	 */
+	public static RoutingNoOpCheck getByName(String name) {
+		for (RoutingNoOpCheck check : RoutingNoOpCheck.values()) {
+			if (check.name().equalsIgnoreCase(name.trim())) {
+				return check;
+			}
+		}
+		throw new IllegalArgumentException("Cannot find the routing no-op check with name: " + name);
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.barco.e2gen2.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import com.avispl.symphony.dal.communicator.barco.e2gen2.dto.RpcRequest;
+
+/**
+ * Encode the JSON-RPC requests into the bytes of the HTTP body.
+ * Requests without params, or with one constant param such as the type of listDestinations, are encoded once and the bytes are reused.
+ * Requests with only an id, such as listContent, use a template of the method where only the id is written.
+ * Other requests, such as the routing writes, are serialized on every call and have no key in the response cache.
+ *
+ * @author Duy Nguyen
+ * @since 1.0.0
+ */
+public class RpcRequestEncoder {
+
+	// written in the template in place of the id, it is found once in the encoded request
+	private static final int ID_PLACEHOLDER = Integer.MIN_VALUE;
+
+	private final JsonCodec jsonCodec;
+	private final Map<String, EncodedRequest> constantRequests = new ConcurrentHashMap<>();
+	private final Map<String, IdTemplate> idTemplates = new ConcurrentHashMap<>();
+
+	/**
+	 * Encoded body of a request, with the key of the request in the response cache
+	 */
+	public static class EncodedRequest {
+		private final byte[] body;
+		private final String key;
+
+		/**
+		 * EncodedRequest with args constructor
+		 *
+		 * @param body bytes of the HTTP body
+		 * @param key key of the request, null if its response is not cached
+		 */
+		private EncodedRequest(byte[] body, String key) {
+			this.body = body;
+			this.key = key;
+		}
+
+		/**
+		 * Retrieves {@code {@link #body}}
+		 *
+		 * @return value of {@link #body}, shared by every call of a constant request and never changed
+		 */
+		public byte[] getBody() {
+			return body;
+		}
+
+		/**
+		 * Retrieves {@code {@link #key}}
+		 *
+		 * @return value of {@link #key}, null if the response of the request is not cached
+		 */
+		public String getKey() {
+			return key;
+		}
+	}
+
+	/**
+	 * Bytes of a request before and after its id
+	 */
+	private static class IdTemplate {
+		private final String method;
+		private final byte[] prefix;
+		private final byte[] suffix;
+
+		/**
+		 * IdTemplate with args constructor
+		 *
+		 * @param method name of the method
+		 * @param prefix bytes before the id
+		 * @param suffix bytes after the id
+		 */
+		private IdTemplate(String method, byte[] prefix, byte[] suffix) {
+			this.method = method;
+			this.prefix = prefix;
+			this.suffix = suffix;
+		}
+
+		/**
+		 * Write the request with an id
+		 *
+		 * @param id the id
+		 * @return the encoded request
+		 */
+		private EncodedRequest withId(int id) {
+			String idText = Integer.toString(id);
+			byte[] body = new byte[prefix.length + idText.length() + suffix.length];
+			System.arraycopy(prefix, 0, body, 0, prefix.length);
+			for (int i = 0; i < idText.length(); i++) {
+				body[prefix.length + i] = (byte) idText.charAt(i);
+			}
+			System.arraycopy(suffix, 0, body, prefix.length + idText.length(), suffix.length);
+			return new EncodedRequest(body, method + BarcoE2Constant.COLON + BarcoE2Constant.ID + BarcoE2Constant.COLON + idText);
+		}
+	}
+
+	/**
+	 * RpcRequestEncoder with arg constructor
+	 *
+	 * @param jsonCodec codec used to encode the requests
+	 */
+	public RpcRequestEncoder(JsonCodec jsonCodec) {
+		this.jsonCodec = jsonCodec;
+	}
+
+	/**
+	 * Encode a request
+	 *
+	 * @param method name of the method
+	 * @param params params of the request
+	 * @return the encoded request
+	 * @throws JsonProcessingException if the request cannot be serialized
+	 */
+	public EncodedRequest encode(String method, Map<Object, Object> params) throws JsonProcessingException {
+		if (params != null && params.isEmpty()) {
+			return encodeConstant(method, params, method);
+		}
+		if (params != null && params.size() == 1) {
+			Object id = params.get(BarcoE2Constant.ID);
+			if (id instanceof Integer) {
+				return encodeWithId(method, (Integer) id);
+			}
+			Object type = params.get(BarcoE2Constant.TYPE);
+			if (type instanceof Integer) {
+				return encodeConstant(method, params, method + BarcoE2Constant.COLON + BarcoE2Constant.TYPE + BarcoE2Constant.COLON + type);
+			}
+		}
+		byte[] body = jsonCodec.writeValueAsBytes(toRpcRequest(method, params));
+		// keys made of the whole body would pile up in the cache, one per distinct write
+		return new EncodedRequest(body, null);
+	}
+
+	/**
+	 * Encode a constant request once, the later calls reuse the bytes
+	 *
+	 * @param method name of the method
+	 * @param params params of the request
+	 * @param key key of the request
+	 * @return the encoded request
+	 * @throws JsonProcessingException if the request cannot be serialized
+	 */
+	private EncodedRequest encodeConstant(String method, Map<Object, Object> params, String key) throws JsonProcessingException {
+		EncodedRequest encodedRequest = constantRequests.get(key);
+		if (encodedRequest == null) {
+			encodedRequest = new EncodedRequest(jsonCodec.writeValueAsBytes(toRpcRequest(method, params)), key);
+			constantRequests.putIfAbsent(key, encodedRequest);
+		}
+		return encodedRequest;
+	}
+
+	/**
+	 * Encode a request with only an id, the template of the method is built on the first call
+	 *
+	 * @param method name of the method
+	 * @param id the id
+	 * @return the encoded request
+	 * @throws JsonProcessingException if the request cannot be serialized
+	 */
+	private EncodedRequest encodeWithId(String method, int id) throws JsonProcessingException {
+		IdTemplate template = idTemplates.get(method);
+		if (template == null) {
+			Map<Object, Object> params = new HashMap<>();
+			params.put(BarcoE2Constant.ID, ID_PLACEHOLDER);
+			byte[] body = jsonCodec.writeValueAsBytes(toRpcRequest(method, params));
+			byte[] placeholder = Integer.toString(ID_PLACEHOLDER).getBytes(StandardCharsets.US_ASCII);
+			int index = indexOf(body, placeholder);
+			template = new IdTemplate(method, Arrays.copyOfRange(body, 0, index), Arrays.copyOfRange(body, index + placeholder.length, body.length));
+			idTemplates.putIfAbsent(method, template);
+		}
+		return template.withId(id);
+	}
+
+	/**
+	 * Generate RpcRequest DTO
+	 *
+	 * @param method Rpc method
+	 * @param params Map of parameters
+	 * @return This returns RpcRequest DTO
+	 */
+	private RpcRequest toRpcRequest(String method, Map<Object, Object> params) {
+		RpcRequest rpcRequest = new RpcRequest();
+		rpcRequest.setMethod(method);
+		rpcRequest.setParams(params);
+		return rpcRequest;
+	}
+
+	/**
+	 * Find the first index of bytes in an array
+	 *
+	 * @param array the array
+	 * @param target bytes to find
+	 * @return index of the bytes
+	 * @throws IllegalStateException if the bytes are not found
+	 */
+	private static int indexOf(byte[] array, byte[] target) {
+		outer:
+		for (int i = 0; i + target.length <= array.length; i++) {
+			for (int j = 0; j < target.length; j++) {
+				if (array[i + j] != target[j]) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		throw new IllegalStateException("Id placeholder is not found in the encoded request");
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.barco.e2gen2.utils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Sources of the device, names indexed by source id in an array, with the order of the names precomputed.
+ * The None entry of the routing dropdowns has the id {@link #NONE_ID} and is sorted with the other names.
+ * The table is immutable, a new one is built when the sources are listed.
+ *
+ * @author Duy Nguyen
+ * @since 1.0.0
+ */
+public class SourceTable {
+
+	public static final int NONE_ID = -1;
+	public static final SourceTable EMPTY = new SourceTable(new String[0]);
+
+	// name by source id, null where there is no source
+	private final String[] namesById;
+	// ids and names sorted by name, None included
+	private final int[] idsInNameOrder;
+	private final String[] namesInNameOrder;
+	private final List<String> sortedNames;
+
+	/**
+	 * SourceTable with arg constructor
+	 *
+	 * @param namesById name by source id, null where there is no source
+	 */
+	public SourceTable(String[] namesById) {
+		this.namesById = namesById.clone();
+		int size = 1;
+		for (String name : namesById) {
+			if (name != null) {
+				size++;
+			}
+		}
+		Integer[] order = new Integer[size];
+		order[0] = NONE_ID;
+		int index = 1;
+		for (int id = 0; id < namesById.length; id++) {
+			if (namesById[id] != null) {
+				order[index++] = id;
+			}
+		}
+		// stable sort: for equal names the lowest id comes first
+		Arrays.sort(order, (first, second) -> getName(first).compareTo(getName(second)));
+		idsInNameOrder = new int[size];
+		namesInNameOrder = new String[size];
+		for (int i = 0; i < size; i++) {
+			idsInNameOrder[i] = order[i];
+			namesInNameOrder[i] = getName(order[i]);
+		}
+		sortedNames = Collections.unmodifiableList(Arrays.asList(namesInNameOrder.clone()));
+	}
+
+	/**
+	 * Get the name of a source
+	 *
+	 * @param id source id
+	 * @return name of the source, None for {@link #NONE_ID}, null if there is no source with this id
+	 */
+	public String getName(int id) {
+		if (id == NONE_ID) {
+			return BarcoE2Constant.NONE;
+		}
+		return id >= 0 && id < namesById.length ? namesById[id] : null;
+	}
+
+	/**
+	 * Get the id of a source by a binary search on the sorted names
+	 *
+	 * @param name name of the source
+	 * @param defaultId id returned when there is no source with this name
+	 * @return source id, {@link #NONE_ID} for None
+	 */
+	public int getId(String name, int defaultId) {
+		if (name == null) {
+			return defaultId;
+		}
+		int index = Arrays.binarySearch(namesInNameOrder, name);
+		if (index < 0) {
+			return defaultId;
+		}
+		// the first of equal names
+		while (index > 0 && namesInNameOrder[index - 1].equals(name)) {
+			index--;
+		}
+		return idsInNameOrder[index];
+	}
+
+	/**
+	 * Retrieves the names sorted by name, None included
+	 *
+	 * @return unmodifiable list of names, shared by the routing dropdowns
+	 */
+	public List<String> getSortedNames() {
+		return sortedNames;
+	}
+
+	/**
+	 * Get the number of sources, None included
+	 *
+	 * @return number of entries
+	 */
+	public int size() {
+		return idsInNameOrder.length;
+	}
+
+	/**
+	 * Get the id of the source at a position of the name order
+	 *
+	 * @param position position in the name order
+	 * @return source id
+	 */
+	public int getIdAt(int position) {
+		return idsInNameOrder[position];
+	}
+
+	/**
+	 * Check if the table has no source other than None
+	 *
+	 * @return true if there is no source
+	 */
+	public boolean isEmpty() {
+		return idsInNameOrder.length <= 1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		return Arrays.equals(namesById, ((SourceTable) o).namesById);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(namesById);
+	}
+}
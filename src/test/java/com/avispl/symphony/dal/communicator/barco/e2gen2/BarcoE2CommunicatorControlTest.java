@@ -3,27 +3,42 @@
  */
 package com.avispl.symphony.dal.communicator.barco.e2gen2;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
 import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.error.CommandFailureException;
 import com.avispl.symphony.dal.communicator.HttpCommunicator;
 import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.BarcoE2Constant;
 import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.BarcoE2ControllingMetric;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.RoutingMatrix;
 
 @ExtendWith(MockitoExtension.class)
 class BarcoE2CommunicatorControlTest {
@@ -78,7 +93,7 @@ class BarcoE2CommunicatorControlTest {
 		Map<Object, Object> param = new HashMap<>();
 		param.put(BarcoE2Constant.PRESET_NAME, "Screen+Super");
 		param.put(BarcoE2Constant.TYPE, 1);
-		Mockito.verify(barcoE2Communicator,times(1)).requestByMethod(BarcoE2Constant.METHOD_ACTIVATE_PRESET, param);
+		Mockito.verify(barcoE2Communicator, timeout(5000).times(1)).requestByMethod(BarcoE2Constant.METHOD_ACTIVATE_PRESET, param);
 	}
 
 	/**
@@ -102,7 +117,7 @@ class BarcoE2CommunicatorControlTest {
 		Map<Object, Object> param = new HashMap<>();
 		param.put(BarcoE2Constant.PRESET_NAME, "Screen+Super");
 		param.put(BarcoE2Constant.TYPE, 1);
-		Mockito.verify(barcoE2Communicator,times(1)).requestByMethod(BarcoE2Constant.METHOD_ACTIVATE_PRESET, param);
+		Mockito.verify(barcoE2Communicator, timeout(5000).times(1)).requestByMethod(BarcoE2Constant.METHOD_ACTIVATE_PRESET, param);
 	}
 
 	/**
@@ -126,6 +141,26 @@ class BarcoE2CommunicatorControlTest {
 		Mockito.verify(barcoE2Communicator,times(1)).requestByMethod(BarcoE2Constant.METHOD_CHANGE_AUX_CONTENT, params);
 	}
 
+	/**
+	 * Test method for Routing Control
+	 * 	Test assign the source already on program of aux destination, nothing is written
+	 *
+	 * @throws Exception Throw exception if failed to retrieve statistics or controls
+	 */
+	@Test
+	void testRoutingControlCaseAuxDestNoOp() throws Exception {
+		barcoE2Communicator.setRoutingNoOpCheck("CACHED");
+		barcoE2Communicator.getMultipleStatistics();
+		ControllableProperty property = new ControllableProperty();
+		property.setValue("CAM1-1");
+		property.setProperty(String.format("%s#%s", BarcoE2ControllingMetric.AUX_DESTINATIONS.getName(),"DSM"));
+		barcoE2Communicator.controlProperty(property);
+		Mockito.verify(barcoE2Communicator, times(0)).requestByMethod(Mockito.eq(BarcoE2Constant.METHOD_CHANGE_AUX_CONTENT), Mockito.anyMap());
+		barcoE2Communicator.setRoutingNoOpCheck("FRESH");
+		barcoE2Communicator.controlProperty(property);
+		Mockito.verify(barcoE2Communicator, times(0)).requestByMethod(Mockito.eq(BarcoE2Constant.METHOD_CHANGE_AUX_CONTENT), Mockito.anyMap());
+	}
+
 	/**
 	 * Test method for Routing Control
 	 * 	Test assign source to super aux destination
@@ -180,4 +215,330 @@ class BarcoE2CommunicatorControlTest {
 		barcoE2Communicator.controlProperty(property);
 		Mockito.verify(barcoE2Communicator,times(1)).controlProperty(property);
 	}
+
+	/**
+	 * Test method for the async control API
+	 * 	Routes fired together each complete their own future
+	 *
+	 * @throws Exception Throw exception if failed to retrieve statistics or controls
+	 */
+	@Test
+	void testRoutingControlAsync() throws Exception {
+		barcoE2Communicator.getMultipleStatistics();
+		ControllableProperty auxProperty = new ControllableProperty();
+		auxProperty.setValue("CAM1-1");
+		auxProperty.setProperty(String.format("%s#%s", BarcoE2ControllingMetric.AUX_DESTINATIONS.getName(), "DSM"));
+		ControllableProperty superAuxProperty = new ControllableProperty();
+		superAuxProperty.setValue("CAM2-2");
+		superAuxProperty.setProperty(String.format("%s#%s", BarcoE2ControllingMetric.SUPER_AUX_DESTINATION.getName() + ":" + "SuperAux1", "DSM"));
+		List<CompletableFuture<Void>> results = barcoE2Communicator.controlPropertiesAsync(Arrays.asList(auxProperty, superAuxProperty));
+		CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get();
+		Mockito.verify(barcoE2Communicator, times(2)).requestByMethod(Mockito.eq(BarcoE2Constant.METHOD_CHANGE_AUX_CONTENT), Mockito.anyMap());
+	}
+
+	/**
+	 * Test method for the per-destination command queue
+	 * 	Controls of one destination are sent in the order they were fired
+	 *
+	 * @throws Exception Throw exception if failed to retrieve statistics or controls
+	 */
+	@Test
+	void testRoutingControlSameDestinationInOrder() throws Exception {
+		barcoE2Communicator.getMultipleStatistics();
+		ControllableProperty firstProperty = new ControllableProperty();
+		firstProperty.setValue("CAM2-2");
+		firstProperty.setProperty(String.format("%s#%s", BarcoE2ControllingMetric.AUX_DESTINATIONS.getName(), "DSM"));
+		ControllableProperty secondProperty = new ControllableProperty();
+		secondProperty.setValue("CAM1-1");
+		secondProperty.setProperty(String.format("%s#%s", BarcoE2ControllingMetric.AUX_DESTINATIONS.getName(), "DSM"));
+		barcoE2Communicator.controlProperties(Arrays.asList(firstProperty, secondProperty));
+		Map<Object, Object> firstParams = new HashMap<>();
+		firstParams.put(BarcoE2Constant.ID, 0);
+		firstParams.put(BarcoE2Constant.PGM_LAST_SRC_INDEX, 1);
+		firstParams.put(BarcoE2Constant.PVM_LAST_SRC_INDEX, 1);
+		Map<Object, Object> secondParams = new HashMap<>();
+		secondParams.put(BarcoE2Constant.ID, 0);
+		secondParams.put(BarcoE2Constant.PGM_LAST_SRC_INDEX, 0);
+		secondParams.put(BarcoE2Constant.PVM_LAST_SRC_INDEX, 0);
+		InOrder inOrder = Mockito.inOrder(barcoE2Communicator);
+		inOrder.verify(barcoE2Communicator).requestByMethod(BarcoE2Constant.METHOD_CHANGE_AUX_CONTENT, firstParams);
+		inOrder.verify(barcoE2Communicator).requestByMethod(BarcoE2Constant.METHOD_CHANGE_AUX_CONTENT, secondParams);
+	}
+
+	/**
+	 * Test method for the coalescing window
+	 * 	Only the latest route of a burst on one destination is sent to the device
+	 *
+	 * @throws Exception Throw exception if failed to retrieve statistics or controls
+	 */
+	@Test
+	void testRoutingControlCoalescing() throws Exception {
+		barcoE2Communicator.getMultipleStatistics();
+		barcoE2Communicator.setRoutingCoalescingWindow(300);
+		ControllableProperty firstProperty = new ControllableProperty();
+		firstProperty.setValue("CAM1-1");
+		firstProperty.setProperty(String.format("%s#%s", BarcoE2ControllingMetric.AUX_DESTINATIONS.getName(), "DSM"));
+		ControllableProperty secondProperty = new ControllableProperty();
+		secondProperty.setValue("CAM2-2");
+		secondProperty.setProperty(String.format("%s#%s", BarcoE2ControllingMetric.AUX_DESTINATIONS.getName(), "DSM"));
+		List<CompletableFuture<Void>> results = barcoE2Communicator.controlPropertiesAsync(Arrays.asList(firstProperty, secondProperty));
+		CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get();
+		Map<Object, Object> params = new HashMap<>();
+		params.put(BarcoE2Constant.ID, 0);
+		params.put(BarcoE2Constant.PGM_LAST_SRC_INDEX, 1);
+		params.put(BarcoE2Constant.PVM_LAST_SRC_INDEX, 1);
+		Mockito.verify(barcoE2Communicator, times(1)).requestByMethod(Mockito.eq(BarcoE2Constant.METHOD_CHANGE_AUX_CONTENT), Mockito.anyMap());
+		Mockito.verify(barcoE2Communicator, times(1)).requestByMethod(BarcoE2Constant.METHOD_CHANGE_AUX_CONTENT, params);
+	}
+
+	/**
+	 * Test method for the coalescing window
+	 * 	controlProperty waits for the coalesced route and throws its failure
+	 *
+	 * @throws Exception Throw exception if failed to retrieve statistics or controls
+	 */
+	@Test
+	void testRoutingControlCoalescingWaitsForRoute() throws Exception {
+		barcoE2Communicator.getMultipleStatistics();
+		barcoE2Communicator.setRoutingCoalescingWindow(300);
+		ControllableProperty property = new ControllableProperty();
+		property.setValue("CAM2-2");
+		property.setProperty(String.format("%s#%s", BarcoE2ControllingMetric.AUX_DESTINATIONS.getName(), "DSM"));
+		barcoE2Communicator.controlProperty(property);
+		Mockito.verify(barcoE2Communicator, times(1)).requestByMethod(Mockito.eq(BarcoE2Constant.METHOD_CHANGE_AUX_CONTENT), Mockito.anyMap());
+		wireMockExtension.stubFor(post(urlEqualTo("/")).withRequestBody(containing("changeAuxContent"))
+				.willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json").withBody("{\"jsonrpc\":\"2.0\",\"result\":{\"success\":-1,\"response\":{}},\"id\":1234}")));
+		property.setValue("PC-3");
+		Assertions.assertThrows(CommandFailureException.class, () -> barcoE2Communicator.controlProperty(property));
+	}
+
+	/**
+	 * Test method for the coalescing window
+	 * 	A refresh fired in the window of a route does not replace it, the route is sent first and the refresh reads after it
+	 *
+	 * @throws Exception Throw exception if failed to retrieve statistics or controls
+	 */
+	@Test
+	void testRoutingControlCoalescingWithRefresh() throws Exception {
+		barcoE2Communicator.getMultipleStatistics();
+		barcoE2Communicator.setRoutingCoalescingWindow(300);
+		ControllableProperty routeProperty = new ControllableProperty();
+		routeProperty.setValue("CAM2-2");
+		routeProperty.setProperty(String.format("%s#%s", BarcoE2ControllingMetric.AUX_DESTINATIONS.getName(), "DSM"));
+		ControllableProperty refreshProperty = new ControllableProperty();
+		refreshProperty.setValue("Aux:DSM");
+		refreshProperty.setProperty(BarcoE2ControllingMetric.REFRESH_DESTINATION.getName());
+		ControllableProperty superRefreshProperty = new ControllableProperty();
+		superRefreshProperty.setValue("SuperAux:SuperAux1");
+		superRefreshProperty.setProperty(BarcoE2ControllingMetric.REFRESH_DESTINATION.getName());
+		List<CompletableFuture<Void>> results = barcoE2Communicator.controlPropertiesAsync(Arrays.asList(routeProperty, refreshProperty, superRefreshProperty));
+		CompletableFuture.allOf(results.get(0), results.get(1)).get();
+		// AuxDest2 of SuperAux1 is not in the test data, the super refresh fails once it has read the super aux destination
+		results.get(2).handle((value, error) -> null).get();
+		Mockito.verify(barcoE2Communicator, times(1)).requestByMethod(Mockito.eq(BarcoE2Constant.METHOD_CHANGE_AUX_CONTENT), Mockito.anyMap());
+		InOrder inOrder = Mockito.inOrder(barcoE2Communicator);
+		inOrder.verify(barcoE2Communicator).requestByMethod(Mockito.eq(BarcoE2Constant.METHOD_CHANGE_AUX_CONTENT), Mockito.anyMap());
+		inOrder.verify(barcoE2Communicator).requestByMethod(Mockito.eq(BarcoE2Constant.METHOD_LIST_AUX_CONTENT), Mockito.anyMap());
+		InOrder superInOrder = Mockito.inOrder(barcoE2Communicator);
+		superInOrder.verify(barcoE2Communicator).requestByMethod(Mockito.eq(BarcoE2Constant.METHOD_CHANGE_AUX_CONTENT), Mockito.anyMap());
+		superInOrder.verify(barcoE2Communicator).requestByMethod(Mockito.eq(BarcoE2Constant.METHOD_LIST_SUPER_AUX_CONTENT), Mockito.anyMap());
+	}
+
+	/**
+	 * Test method for the write-through of routing controls
+	 * 	A successful route updates the cached routing state, so routing the same source again is a no-op
+	 *
+	 * @throws Exception Throw exception if failed to retrieve statistics or controls
+	 */
+	@Test
+	void testRoutingControlWriteThrough() throws Exception {
+		barcoE2Communicator.setRoutingNoOpCheck("CACHED");
+		barcoE2Communicator.getMultipleStatistics();
+		ControllableProperty property = new ControllableProperty();
+		property.setValue("CAM2-2");
+		property.setProperty(String.format("%s#%s", BarcoE2ControllingMetric.AUX_DESTINATIONS.getName(), "DSM"));
+		barcoE2Communicator.controlProperty(property);
+		barcoE2Communicator.controlProperty(property);
+		Mockito.verify(barcoE2Communicator, times(1)).requestByMethod(Mockito.eq(BarcoE2Constant.METHOD_CHANGE_AUX_CONTENT), Mockito.anyMap());
+	}
+
+	/**
+	 * Test method for the write-through of routing controls
+	 * 	The statistics and controls already returned by a poll keep their values, the route is published in a copy
+	 *
+	 * @throws Exception Throw exception if failed to retrieve statistics or controls
+	 */
+	@Test
+	void testRoutingControlWriteThroughKeepsReturnedStatistics() throws Exception {
+		ExtendedStatistics statistics = (ExtendedStatistics) barcoE2Communicator.getMultipleStatistics().get(0);
+		String propertyName = String.format("%s#%s", BarcoE2ControllingMetric.AUX_DESTINATIONS.getName(), "DSM");
+		ControllableProperty property = new ControllableProperty();
+		property.setValue("CAM2-2");
+		property.setProperty(propertyName);
+		barcoE2Communicator.controlProperty(property);
+		Assertions.assertEquals("CAM1-1", statistics.getStatistics().get(propertyName));
+		for (AdvancedControllableProperty control : statistics.getControllableProperties()) {
+			if (propertyName.equals(control.getName())) {
+				Assertions.assertEquals("CAM1-1", control.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Test method for the write-through of routing controls
+	 * 	A poll right after a route returns the new route without reading the device again
+	 *
+	 * @throws Exception Throw exception if failed to retrieve statistics or controls
+	 */
+	@Test
+	void testRoutingControlWriteThroughIsReturnedByNextPoll() throws Exception {
+		barcoE2Communicator.getMultipleStatistics();
+		String propertyName = String.format("%s#%s", BarcoE2ControllingMetric.AUX_DESTINATIONS.getName(), "DSM");
+		ControllableProperty property = new ControllableProperty();
+		property.setValue("CAM2-2");
+		property.setProperty(propertyName);
+		barcoE2Communicator.controlProperty(property);
+		ExtendedStatistics statistics = (ExtendedStatistics) barcoE2Communicator.getMultipleStatistics().get(0);
+		Assertions.assertEquals("CAM2-2", statistics.getStatistics().get(propertyName));
+		Mockito.verify(barcoE2Communicator, times(1)).requestByMethod(Mockito.eq(BarcoE2Constant.METHOD_GET_FRAME_SETTINGS), Mockito.anyMap());
+	}
+
+	/**
+	 * Test method for the write-through of routing controls
+	 * 	The tally returned by the next poll follows the route
+	 *
+	 * @throws Exception Throw exception if failed to retrieve statistics or controls
+	 */
+	@Test
+	void testRoutingControlWriteThroughUpdatesTally() throws Exception {
+		barcoE2Communicator.setTallyStatistics(true);
+		Map<String, String> statistics = ((ExtendedStatistics) barcoE2Communicator.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertEquals("0", statistics.get("Tally#CAM2-2ProgramCount"));
+		ControllableProperty property = new ControllableProperty();
+		property.setValue("CAM2-2");
+		property.setProperty(String.format("%s#%s", BarcoE2ControllingMetric.AUX_DESTINATIONS.getName(), "DSM"));
+		barcoE2Communicator.controlProperty(property);
+		statistics = ((ExtendedStatistics) barcoE2Communicator.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertEquals("Program, Preview", statistics.get("Tally#CAM2-2"));
+		Assertions.assertEquals("1", statistics.get("Tally#CAM2-2ProgramCount"));
+	}
+
+	/**
+	 * Test method for Routing Control
+	 * 	Test clear screen destination, all normal layers are cleared by one changeContent
+	 *
+	 * @throws Exception Throw exception if failed to retrieve statistics or controls
+	 */
+	@Test
+	void testRoutingControlCaseScreenDestNone() throws Exception {
+		barcoE2Communicator.getMultipleStatistics();
+		ControllableProperty property = new ControllableProperty();
+		property.setValue("None");
+		property.setProperty(String.format("%s#%s", BarcoE2ControllingMetric.SCREEN_DESTINATIONS.getName(), "Main Screen"));
+		barcoE2Communicator.controlProperty(property);
+		Mockito.verify(barcoE2Communicator, times(1)).requestByMethod(Mockito.eq(BarcoE2Constant.METHOD_CHANGE_CONTENT), Mockito.anyMap());
+	}
+
+	/**
+	 * Test method for Routing Control
+	 * 	Test assign source to a mixed layer, both layers of the pair are sent by one changeContent
+	 *
+	 * @throws Exception Throw exception if failed to retrieve statistics or controls
+	 */
+	@Test
+	void testRoutingControlCaseScreenDestMixedLayer() throws Exception {
+		barcoE2Communicator.getMultipleStatistics();
+		ControllableProperty property = new ControllableProperty();
+		property.setValue("CAM1-1");
+		property.setProperty(String.format("%s#%s", BarcoE2ControllingMetric.SCREEN_DESTINATIONS.getName(), "Main Screen"));
+		barcoE2Communicator.controlProperty(property);
+		Mockito.verify(barcoE2Communicator, times(1)).requestByMethod(Mockito.eq(BarcoE2Constant.METHOD_CHANGE_CONTENT), Mockito.anyMap());
+	}
+
+	/**
+	 * Test method for Routing Control
+	 * 	Test assign source to screen destination, the layer geometry comes from the sizes listed by the poll
+	 *
+	 * @throws Exception Throw exception if failed to retrieve statistics or controls
+	 */
+	@Test
+	void testRoutingControlCaseScreenDestCachedGeometry() throws Exception {
+		barcoE2Communicator.getMultipleStatistics();
+		Mockito.clearInvocations(barcoE2Communicator);
+		ControllableProperty property = new ControllableProperty();
+		property.setValue("CAM1-1");
+		property.setProperty(String.format("%s#%s", BarcoE2ControllingMetric.SCREEN_DESTINATIONS.getName(), "Main Screen"));
+		barcoE2Communicator.controlProperty(property);
+		Mockito.verify(barcoE2Communicator, never()).requestByMethod(Mockito.eq(BarcoE2Constant.METHOD_LIST_SOURCES), Mockito.anyMap());
+		Mockito.verify(barcoE2Communicator, times(1)).requestByMethod(Mockito.eq(BarcoE2Constant.METHOD_CHANGE_CONTENT), Mockito.anyMap());
+	}
+
+	/**
+	 * Test method for Routing Control
+	 * 	Test assign source to screen destination, the mixed layers come from the layer layout analysed by the poll
+	 *
+	 * @throws Exception Throw exception if failed to retrieve statistics or controls
+	 */
+	@Test
+	void testRoutingControlCaseScreenDestCachedLayout() throws Exception {
+		barcoE2Communicator.getMultipleStatistics();
+		Mockito.clearInvocations(barcoE2Communicator);
+		ControllableProperty property = new ControllableProperty();
+		property.setValue("CAM1-1");
+		property.setProperty(String.format("%s#%s", BarcoE2ControllingMetric.SCREEN_DESTINATIONS.getName(), "Main Screen"));
+		barcoE2Communicator.controlProperty(property);
+		// one read to clear the layers, one read of the program modes to assign the mix
+		Mockito.verify(barcoE2Communicator, times(2)).requestByMethod(Mockito.eq(BarcoE2Constant.METHOD_LIST_CONTENT), Mockito.anyMap());
+		Mockito.verify(barcoE2Communicator, times(1)).requestByMethod(Mockito.eq(BarcoE2Constant.METHOD_CHANGE_CONTENT), Mockito.anyMap());
+	}
+
+	/**
+	 * Test method for Routing Control
+	 * 	Test assign source to screen destination, the routing matrix is updated by the successful route
+	 *
+	 * @throws Exception Throw exception if failed to retrieve statistics or controls
+	 */
+	@Test
+	void testRoutingControlUpdatesRoutingMatrix() throws Exception {
+		barcoE2Communicator.getMultipleStatistics();
+		ControllableProperty property = new ControllableProperty();
+		property.setValue("CAM1-1");
+		property.setProperty(String.format("%s#%s", BarcoE2ControllingMetric.SCREEN_DESTINATIONS.getName(), "Main Screen"));
+		barcoE2Communicator.controlProperty(property);
+		RoutingMatrix routingMatrix = barcoE2Communicator.getRoutingMatrix();
+		Assertions.assertEquals(0, routingMatrix.getProgramSource(true, 1));
+		Assertions.assertTrue(routingMatrix.isOnProgram(true, 0, 1));
+		// Site Screen already shows CAM1-1
+		Assertions.assertEquals(0, routingMatrix.nextDestinationOnProgram(true, 0, 0));
+		Assertions.assertEquals(1, routingMatrix.nextDestinationOnProgram(true, 0, 1));
+		Assertions.assertEquals(-1, routingMatrix.nextDestinationOnProgram(true, 0, 2));
+	}
+
+	/**
+	 * Test method for the routing matrix
+	 * 	The layers cleared before the new source is assigned are taken off program in the routing matrix
+	 *
+	 * @throws Exception Throw exception if failed to retrieve statistics or controls
+	 */
+	@Test
+	void testRoutingControlClearedLayersUpdateRoutingMatrix() throws Exception {
+		// PC-3 is on program of the third layer of Main Screen
+		wireMockExtension.stubFor(post(urlEqualTo("/")).withRequestBody(containing("\"listContent\"")).withRequestBody(containing("{\"id\":1}"))
+				.willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+						.withBody("{\"jsonrpc\":\"2.0\",\"result\":{\"success\":0,\"response\":{\"id\":1,\"Name\":\"Main Screen\",\"Layers\":[{\"id\":0,\"LastSrcIdx\":-1,\"PvwMode\":0,\"PgmMode\":0,\"LinkLayerId\":-1,\"LinkDestId\":-1},{\"id\":1,\"LastSrcIdx\":-1,\"PvwMode\":0,\"PgmMode\":0,\"LinkLayerId\":-1,\"LinkDestId\":-1},{\"id\":2,\"LastSrcIdx\":2,\"PvwMode\":0,\"PgmMode\":1,\"LinkLayerId\":-1,\"LinkDestId\":-1},{\"id\":3,\"LastSrcIdx\":-1,\"PvwMode\":0,\"PgmMode\":0,\"LinkLayerId\":-1,\"LinkDestId\":-1},{\"id\":4,\"LastSrcIdx\":0,\"PvwMode\":0,\"PgmMode\":0,\"LinkLayerId\":-1,\"LinkDestId\":0},{\"id\":5,\"LastSrcIdx\":-1,\"PvwMode\":0,\"PgmMode\":0,\"LinkLayerId\":-1,\"LinkDestId\":0}]}},\"id\":1234}")));
+		wireMockExtension.stubFor(post(urlEqualTo("/")).withRequestBody(containing("changeContent"))
+				.willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json").withBody("{\"jsonrpc\":\"2.0\",\"result\":{\"success\":0,\"response\":{}},\"id\":1234}")));
+		wireMockExtension.stubFor(post(urlEqualTo("/")).withRequestBody(containing("clearLayers"))
+				.willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json").withBody("{\"jsonrpc\":\"2.0\",\"result\":{\"success\":0,\"response\":{}},\"id\":1234}")));
+		barcoE2Communicator.getMultipleStatistics();
+		RoutingMatrix routingMatrix = barcoE2Communicator.getRoutingMatrix();
+		Assertions.assertTrue(routingMatrix.isOnProgram(true, 2, 1));
+		ControllableProperty property = new ControllableProperty();
+		property.setValue("CAM1-1");
+		property.setProperty(String.format("%s#%s", BarcoE2ControllingMetric.SCREEN_DESTINATIONS.getName(), "Main Screen"));
+		barcoE2Communicator.controlProperty(property);
+		Assertions.assertEquals(0, routingMatrix.getProgramSource(true, 1));
+		Assertions.assertFalse(routingMatrix.isOnProgram(true, 2, 1));
+		Assertions.assertEquals(0, routingMatrix.getProgramDestinationCount(2));
+	}
 }
@@ -3,12 +3,22 @@
  */
 package com.avispl.symphony.dal.communicator.barco.e2gen2;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import org.junit.Rule;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -18,12 +28,15 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
 import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 import com.avispl.symphony.api.dal.dto.monitor.Statistics;
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.dal.communicator.HttpCommunicator;
 import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.BarcoE2ControllingMetric;
 import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.BarcoE2MonitoringMetric;
+import com.avispl.symphony.dal.communicator.barco.e2gen2.utils.RoutingMatrix;
 
 /**
  * Unit test for {@link BarcoE2Communicator}.
@@ -86,6 +99,7 @@ class BarcoE2CommunicatorTest {
 		assertEquals("E2", ((ExtendedStatistics) statistics.get(0)).getStatistics().get(BarcoE2MonitoringMetric.DEVICE_MODEL.getName()));
 		assertEquals("OK", ((ExtendedStatistics) statistics.get(0)).getStatistics().get(BarcoE2MonitoringMetric.POWER_SUPPLY_1_STATUS.getName()));
 		assertEquals("OK", ((ExtendedStatistics) statistics.get(0)).getStatistics().get(BarcoE2MonitoringMetric.POWER_SUPPLY_2_STATUS.getName()));
+		Assertions.assertNotNull(((ExtendedStatistics) statistics.get(0)).getStatistics().get(BarcoE2MonitoringMetric.ROUND_TRIP_TIME.getName()));
 	}
 
 	/**
@@ -155,6 +169,26 @@ class BarcoE2CommunicatorTest {
 		assertEquals("None", ((ExtendedStatistics) statistics.get(0)).getStatistics().get(BarcoE2ControllingMetric.PRESETS_LAST_CALLED_PRESET.getName()));
 	}
 
+	/**
+	 * Test method for Preset Control
+	 * Preset feedback and activation are served by the preset catalogue, presets are listed once
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testPresetCatalogueIsListedOnce() throws Exception {
+		barcoE2Communicator.getMultipleStatistics();
+		Map<String, String> statistics = ((ExtendedStatistics) barcoE2Communicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("Screen+Super", statistics.get(BarcoE2ControllingMetric.PRESETS_LAST_CALLED_PRESET.getName()));
+		ControllableProperty property = new ControllableProperty();
+		property.setValue(1);
+		property.setProperty(BarcoE2ControllingMetric.PRESETS_PRESET_ACTIVATE.getName());
+		barcoE2Communicator.controlProperty(property);
+		waitForPresetRecall();
+		assertEquals(1, wireMockRule.findAll(postRequestedFor(urlEqualTo("/")).withRequestBody(containing("listDestinationsForPreset"))).size());
+		assertEquals(1, wireMockRule.findAll(postRequestedFor(urlEqualTo("/")).withRequestBody(containing("activatePreset"))).size());
+	}
+
 	/**
 	 * Test method for JsonNode
 	 *  Exception when response is null
@@ -182,4 +216,403 @@ class BarcoE2CommunicatorTest {
 		barcoE2Communicator.init();
 		assertThrows(Exception.class, () -> barcoE2Communicator.requestByMethod("notExistedMethod", new HashMap<>()), "Expect exception doPost on not existed method");
 	}
+
+	/**
+	 * Test method for {@link BarcoE2Communicator#getMultipleStatistics()}
+	 * A codec whose Jackson module is not on the classpath falls back to the default codec
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testJsonCodecFallsBackWithoutModule() throws Exception {
+		barcoE2Communicator.destroy();
+		barcoE2Communicator.setJsonCodec("Blackbird");
+		barcoE2Communicator.init();
+		Map<String, String> stats = ((ExtendedStatistics) barcoE2Communicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("9.0.4878", stats.get(BarcoE2MonitoringMetric.FIRMWARE_VERSION.getName()));
+		assertEquals("OK", stats.get(BarcoE2MonitoringMetric.POWER_SUPPLY_1_STATUS.getName()));
+	}
+
+	/**
+	 * Test method for JsonNode
+	 * An unchanged response is not parsed again, a changed one is
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testUnchangedResponseIsNotParsedAgain() throws Exception {
+		wireMockRule.stubFor(post(urlEqualTo("/")).withRequestBody(containing("cachedResponseMethod"))
+				.willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json").withBody("{\"jsonrpc\":\"2.0\",\"result\":{\"success\":0,\"response\":{\"Name\":\"E2\"}},\"id\":1234}")));
+		JsonNode firstResponse = barcoE2Communicator.requestByMethod("cachedResponseMethod", new HashMap<>());
+		JsonNode secondResponse = barcoE2Communicator.requestByMethod("cachedResponseMethod", new HashMap<>());
+		Assertions.assertSame(firstResponse, secondResponse);
+
+		wireMockRule.stubFor(post(urlEqualTo("/")).withRequestBody(containing("cachedResponseMethod"))
+				.willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json").withBody("{\"jsonrpc\":\"2.0\",\"result\":{\"success\":0,\"response\":{\"Name\":\"E2 Gen2\"}},\"id\":1234}")));
+		JsonNode changedResponse = barcoE2Communicator.requestByMethod("cachedResponseMethod", new HashMap<>());
+		Assertions.assertNotSame(firstResponse, changedResponse);
+		assertEquals("E2 Gen2", changedResponse.get("Name").asText());
+
+		// requests with several params, such as the routing writes, are not cached
+		Map<Object, Object> writeParams = new HashMap<>();
+		writeParams.put("id", 0);
+		writeParams.put("Name", "E2");
+		JsonNode firstWriteResponse = barcoE2Communicator.requestByMethod("cachedResponseMethod", writeParams);
+		JsonNode secondWriteResponse = barcoE2Communicator.requestByMethod("cachedResponseMethod", writeParams);
+		Assertions.assertNotSame(firstWriteResponse, secondWriteResponse);
+	}
+
+	/**
+	 * Test method for {@link BarcoE2Communicator#getMultipleStatistics()}
+	 * A second call that arrives while a poll is in flight joins it instead of starting another one
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testOverlappingPollsAreSingleFlight() throws Exception {
+		wireMockRule.stubFor(post(urlEqualTo("/")).withRequestBody(containing("lastRecalledPreset"))
+				.willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json").withFixedDelay(500).withBody("{\"jsonrpc\":\"2.0\",\"result\":{\"success\":0,\"response\":0},\"id\":1234}")));
+		CompletableFuture<List<Statistics>> firstPoll = CompletableFuture.supplyAsync(() -> {
+			try {
+				return barcoE2Communicator.getMultipleStatistics();
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		while (wireMockRule.findAll(postRequestedFor(urlEqualTo("/")).withRequestBody(containing("lastRecalledPreset"))).isEmpty()) {
+			Thread.sleep(10);
+		}
+		List<Statistics> secondPoll = barcoE2Communicator.getMultipleStatistics();
+		assertEquals(firstPoll.get(), secondPoll);
+		assertEquals(1, wireMockRule.findAll(postRequestedFor(urlEqualTo("/")).withRequestBody(containing("getFrameSettings"))).size());
+	}
+
+	/**
+	 * Test method for the circuit breaker
+	 * After a connection failure requests fail fast until the retry interval elapses, then a probe closes the circuit
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testCircuitBreakerFailFastAndRecover() throws Exception {
+		barcoE2Communicator.destroy();
+		barcoE2Communicator.setPort(HTTP_PORT - 1);
+		// without reachability probe only the retry interval lets a probe request through
+		barcoE2Communicator.setReachabilityProbe("NONE");
+		barcoE2Communicator.init();
+		assertThrows(ResourceNotReachableException.class, () -> barcoE2Communicator.getMultipleStatistics(), "Expect exception here due to unreachable device");
+		barcoE2Communicator.destroy();
+		barcoE2Communicator.setPort(HTTP_PORT);
+		barcoE2Communicator.init();
+		assertThrows(ResourceNotReachableException.class, () -> barcoE2Communicator.getMultipleStatistics(), "Expect fail fast while the circuit is open");
+		assertEquals(0, wireMockRule.findAll(postRequestedFor(urlEqualTo("/"))).size());
+		barcoE2Communicator.setCircuitBreakerRetryInterval(0);
+		List<Statistics> statistics = barcoE2Communicator.getMultipleStatistics();
+		assertEquals("System1", ((ExtendedStatistics) statistics.get(0)).getStatistics().get(BarcoE2MonitoringMetric.DEVICE_NAME.getName()));
+	}
+
+	/**
+	 * Test method for the circuit breaker
+	 * A successful reachability probe lets the next poll probe the device without waiting for the retry interval
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testCircuitBreakerRecoversOnReachabilityProbe() throws Exception {
+		barcoE2Communicator.destroy();
+		barcoE2Communicator.setPort(HTTP_PORT - 1);
+		barcoE2Communicator.setCircuitBreakerRetryInterval(600000);
+		barcoE2Communicator.init();
+		assertThrows(ResourceNotReachableException.class, () -> barcoE2Communicator.getMultipleStatistics(), "Expect exception here due to unreachable device");
+		barcoE2Communicator.destroy();
+		barcoE2Communicator.setPort(HTTP_PORT);
+		barcoE2Communicator.init();
+		List<Statistics> statistics = barcoE2Communicator.getMultipleStatistics();
+		assertEquals("System1", ((ExtendedStatistics) statistics.get(0)).getStatistics().get(BarcoE2MonitoringMetric.DEVICE_NAME.getName()));
+	}
+
+	/**
+	 * Test method for the circuit breaker
+	 * A response that cannot be parsed comes from a reachable device and does not open the circuit
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testCircuitBreakerIgnoresParseErrors() throws Exception {
+		wireMockRule.stubFor(post(urlEqualTo("/")).withRequestBody(containing("malformedMethod"))
+				.willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json").withBody("{\"jsonrpc\":\"2.0\",\"result\":")));
+		assertThrows(Exception.class, () -> barcoE2Communicator.requestByMethod("malformedMethod", new HashMap<>()), "Expect exception here due to the malformed response");
+		List<Statistics> statistics = barcoE2Communicator.getMultipleStatistics();
+		assertEquals("System1", ((ExtendedStatistics) statistics.get(0)).getStatistics().get(BarcoE2MonitoringMetric.DEVICE_NAME.getName()));
+	}
+
+	/**
+	 * Test method for the circuit breaker
+	 * A probe cut by the poll deadline does not keep the circuit half-open, the next poll probes the device again
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testCircuitBreakerProbeHitsPollDeadline() throws Exception {
+		barcoE2Communicator.destroy();
+		barcoE2Communicator.setPort(HTTP_PORT - 1);
+		barcoE2Communicator.init();
+		assertThrows(ResourceNotReachableException.class, () -> barcoE2Communicator.getMultipleStatistics(), "Expect exception here due to unreachable device");
+		barcoE2Communicator.destroy();
+		barcoE2Communicator.setPort(HTTP_PORT);
+		barcoE2Communicator.setCircuitBreakerRetryInterval(0);
+		barcoE2Communicator.setPollDeadline(1000);
+		barcoE2Communicator.init();
+		StubMapping slowProbe = wireMockRule.stubFor(post(urlEqualTo("/")).withRequestBody(containing("lastRecalledPreset"))
+				.willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json").withFixedDelay(2000)
+						.withBody("{\"jsonrpc\":\"2.0\",\"result\":{\"success\":0,\"response\":0},\"id\":1234}")));
+		assertThrows(Exception.class, () -> barcoE2Communicator.getMultipleStatistics(), "Expect exception here due to the probe hitting the poll deadline");
+		wireMockRule.removeStub(slowProbe);
+		List<Statistics> statistics = barcoE2Communicator.getMultipleStatistics();
+		assertEquals("System1", ((ExtendedStatistics) statistics.get(0)).getStatistics().get(BarcoE2MonitoringMetric.DEVICE_NAME.getName()));
+	}
+
+	/**
+	 * Test method for the poll deadline
+	 * Phases after the deadline are skipped and the collected statistics are returned with the PollIncomplete marker
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testPollDeadlineReturnsPartialResults() throws Exception {
+		wireMockRule.stubFor(post(urlEqualTo("/")).withRequestBody(containing("lastRecalledPreset"))
+				.willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json").withFixedDelay(2000)
+						.withBody("{\"jsonrpc\":\"2.0\",\"result\":{\"success\":0,\"response\":0},\"id\":1234}")));
+		barcoE2Communicator.setPollDeadline(1000);
+		Map<String, String> statistics = ((ExtendedStatistics) barcoE2Communicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("System1", statistics.get(BarcoE2MonitoringMetric.DEVICE_NAME.getName()));
+		assertEquals("true", statistics.get(BarcoE2MonitoringMetric.POLL_INCOMPLETE.getName()));
+		assertEquals("Presets,RoutingMetadata", statistics.get(BarcoE2MonitoringMetric.POLL_SKIPPED_PHASES.getName()));
+		Assertions.assertNull(statistics.get(BarcoE2ControllingMetric.PRESETS_PRESET.getName()));
+	}
+
+	/**
+	 * Test method for last known good values
+	 * Device information that fails to refresh keeps the last good values, marked as stale
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testLastKnownGoodDeviceInformation() throws Exception {
+		barcoE2Communicator.getMultipleStatistics();
+		barcoE2Communicator.destroy();
+		barcoE2Communicator.setBaseUri("/null-device-information-power-status");
+		barcoE2Communicator.init();
+		Map<String, String> statistics = ((ExtendedStatistics) barcoE2Communicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("System1", statistics.get(BarcoE2MonitoringMetric.DEVICE_NAME.getName()));
+		assertEquals("9.0.4878", statistics.get(BarcoE2MonitoringMetric.FIRMWARE_VERSION.getName()));
+		Assertions.assertNotNull(statistics.get("StaleData#DeviceInformationAge(s)"));
+	}
+
+	/**
+	 * Test method for last known good values
+	 * A device that does not answer the reachability probe keeps the last good values of every phase, marked as stale
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testLastKnownGoodWhenProbeFails() throws Exception {
+		barcoE2Communicator.getMultipleStatistics();
+		barcoE2Communicator.destroy();
+		barcoE2Communicator.setPort(HTTP_PORT - 1);
+		barcoE2Communicator.init();
+		Map<String, String> statistics = ((ExtendedStatistics) barcoE2Communicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("System1", statistics.get(BarcoE2MonitoringMetric.DEVICE_NAME.getName()));
+		Assertions.assertNotNull(statistics.get("StaleData#DeviceInformationAge(s)"));
+		Assertions.assertNotNull(statistics.get("StaleData#AuxDestinationsAge(s)"));
+	}
+
+	/**
+	 * Test method for the last known good values
+	 * When the device goes away while getting device information, the last successful values are served
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testLastKnownGoodWhenDeviceGoesAwayDuringPoll() throws Exception {
+		barcoE2Communicator.getMultipleStatistics();
+		barcoE2Communicator.destroy();
+		barcoE2Communicator.setPort(HTTP_PORT - 1);
+		// no probe, the device information request is the first to fail
+		barcoE2Communicator.setReachabilityProbe("NONE");
+		barcoE2Communicator.init();
+		Map<String, String> statistics = ((ExtendedStatistics) barcoE2Communicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("System1", statistics.get(BarcoE2MonitoringMetric.DEVICE_NAME.getName()));
+		Assertions.assertNotNull(statistics.get("StaleData#AuxDestinationsAge(s)"));
+	}
+
+	/**
+	 * Test method for Preset Control
+	 * A preset recall returns immediately, its state and latency are reported once lastRecalledPreset confirms it
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testAsyncPresetRecallIsConfirmed() throws Exception {
+		barcoE2Communicator.getMultipleStatistics();
+		ControllableProperty property = new ControllableProperty();
+		property.setValue(1);
+		property.setProperty(BarcoE2ControllingMetric.PRESETS_PRESET_ACTIVATE.getName());
+		barcoE2Communicator.controlProperty(property);
+		Map<String, String> statistics = waitForPresetRecall();
+		assertEquals("Confirmed", statistics.get(BarcoE2MonitoringMetric.PRESET_RECALL_STATE.getName()));
+		Assertions.assertNotNull(statistics.get(BarcoE2MonitoringMetric.PRESET_RECALL_LATENCY.getName()));
+	}
+
+	/**
+	 * Poll until the last preset recall is no longer pending
+	 *
+	 * @return statistics of the last poll
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	private Map<String, String> waitForPresetRecall() throws Exception {
+		for (int i = 0; i < 50; i++) {
+			Map<String, String> statistics = ((ExtendedStatistics) barcoE2Communicator.getMultipleStatistics().get(0)).getStatistics();
+			if (!"Pending".equals(statistics.get(BarcoE2MonitoringMetric.PRESET_RECALL_STATE.getName()))) {
+				return statistics;
+			}
+			Thread.sleep(100);
+		}
+		throw new IllegalStateException("Preset recall is still pending");
+	}
+
+	/**
+	 * Test method for the targeted destination refresh
+	 * Refreshing one destination only reads that destination, not the whole device
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testRefreshSingleDestination() throws Exception {
+		Map<String, String> statistics = ((ExtendedStatistics) barcoE2Communicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("None", statistics.get(BarcoE2ControllingMetric.REFRESH_DESTINATION.getName()));
+		int auxContentReads = wireMockRule.findAll(postRequestedFor(urlEqualTo("/")).withRequestBody(containing("listAuxContent"))).size();
+		ControllableProperty property = new ControllableProperty();
+		property.setProperty(BarcoE2ControllingMetric.REFRESH_DESTINATION.getName());
+		property.setValue("Aux:DSM");
+		barcoE2Communicator.controlProperty(property);
+		assertEquals(auxContentReads + 1, wireMockRule.findAll(postRequestedFor(urlEqualTo("/")).withRequestBody(containing("listAuxContent"))).size());
+		assertEquals(1, wireMockRule.findAll(postRequestedFor(urlEqualTo("/")).withRequestBody(containing("getFrameSettings"))).size());
+	}
+
+	/**
+	 * Test method for the targeted destination refresh
+	 * The next poll returns the refreshed destination without reading the device again
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testRefreshedDestinationIsReturnedByNextPoll() throws Exception {
+		barcoE2Communicator.getMultipleStatistics();
+		wireMockRule.stubFor(post(urlEqualTo("/")).withRequestBody(containing("listAuxContent"))
+				.willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+						.withBody("{\"jsonrpc\":\"2.0\",\"result\":{\"success\":0,\"response\":{\"id\":0,\"Name\":\"DSM\",\"PvwLastSrcIndex\":-1,\"PgmLastSrcIndex\":1}},\"id\":1234}")));
+		ControllableProperty property = new ControllableProperty();
+		property.setProperty(BarcoE2ControllingMetric.REFRESH_DESTINATION.getName());
+		property.setValue("Aux:DSM");
+		barcoE2Communicator.controlProperty(property);
+		Map<String, String> statistics = ((ExtendedStatistics) barcoE2Communicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("CAM2-2", statistics.get(String.format("%s#%s", BarcoE2ControllingMetric.AUX_DESTINATIONS.getName(), "DSM")));
+		assertEquals(1, wireMockRule.findAll(postRequestedFor(urlEqualTo("/")).withRequestBody(containing("getFrameSettings"))).size());
+	}
+
+	/**
+	 * Test method for the routing matrix
+	 * The poll fills the routing state of the screen and aux destinations
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testRoutingMatrixIsFilledByPoll() throws Exception {
+		barcoE2Communicator.getMultipleStatistics();
+		RoutingMatrix routingMatrix = barcoE2Communicator.getRoutingMatrix();
+		// DSM shows CAM1-1
+		assertEquals(0, routingMatrix.getProgramSource(false, 0));
+		Assertions.assertTrue(routingMatrix.isOnProgram(false, 0, 0));
+		assertEquals(0, routingMatrix.nextDestinationOnProgram(false, 0, 0));
+		// Site Screen shows CAM1-1 on program and on preview
+		assertEquals(0, routingMatrix.getProgramSource(true, 0));
+		assertEquals(0, routingMatrix.getPreviewSource(true, 0));
+		// Main Screen only shows CAM1-1 on a layer linked to a super destination
+		assertEquals(RoutingMatrix.NO_SOURCE, routingMatrix.getProgramSource(true, 1));
+		assertEquals(6, routingMatrix.getLayerCount(1));
+		assertEquals(0, routingMatrix.getLayerLinkDestId(1, 4));
+		Assertions.assertTrue(routingMatrix.isMixed(1));
+	}
+
+	/**
+	 * Test method for the tally statistics
+	 * The program/preview tally of each source is added to the statistics when enabled
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testTallyStatistics() throws Exception {
+		Map<String, String> statistics = ((ExtendedStatistics) barcoE2Communicator.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertNull(statistics.get("Tally#CAM1-1"));
+		barcoE2Communicator.setTallyStatistics(true);
+		statistics = ((ExtendedStatistics) barcoE2Communicator.getMultipleStatistics().get(0)).getStatistics();
+		// CAM1-1 is on program of two destinations and on preview of one
+		assertEquals("Program, Preview", statistics.get("Tally#CAM1-1"));
+		assertEquals("2", statistics.get("Tally#CAM1-1ProgramCount"));
+		assertEquals("1", statistics.get("Tally#CAM1-1PreviewCount"));
+		assertEquals("None", statistics.get("Tally#CAM2-2"));
+		Assertions.assertNull(statistics.get("Tally#None"));
+	}
+
+	/**
+	 * Test method for the payload bytes statistics
+	 * Requests ask for compressed responses and the bytes of each method are counted per poll
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testPayloadBytesStatistics() throws Exception {
+		barcoE2Communicator.setPayloadBytesStatistics(true);
+		Map<String, String> statistics = ((ExtendedStatistics) barcoE2Communicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("gzip, deflate", statistics.get("PayloadBytes#AcceptEncoding"));
+		Assertions.assertTrue(Long.parseLong(statistics.get("PayloadBytes#getFrameSettingsSent")) > 0);
+		Assertions.assertTrue(Long.parseLong(statistics.get("PayloadBytes#getFrameSettingsReceived")) > 0);
+		Assertions.assertTrue(Long.parseLong(statistics.get("PayloadBytes#TotalReceived")) >= Long.parseLong(statistics.get("PayloadBytes#listContentReceived")));
+		Assertions.assertFalse(wireMockRule.findAll(postRequestedFor(urlEqualTo("/")).withHeader("Accept-Encoding", containing("gzip"))).isEmpty());
+	}
+
+	/**
+	 * Test method for the compressed responses
+	 * A compressed response that cannot be decoded is requested again uncompressed, and so are the next requests
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testCompressedResponseFallsBackToIdentity() throws Exception {
+		wireMockRule.stubFor(post(urlEqualTo("/")).withRequestBody(containing("compressedMethod")).withHeader("Accept-Encoding", containing("gzip"))
+				.willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json").withHeader("Content-Encoding", "gzip").withBody("not gzip")));
+		wireMockRule.stubFor(post(urlEqualTo("/")).withRequestBody(containing("compressedMethod")).withHeader("Accept-Encoding", equalTo("identity"))
+				.willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json").withBody("{\"jsonrpc\":\"2.0\",\"result\":{\"success\":0,\"response\":{\"Name\":\"E2\"}},\"id\":1234}")));
+		assertEquals("E2", barcoE2Communicator.requestByMethod("compressedMethod", new HashMap<>()).get("Name").asText());
+		barcoE2Communicator.requestByMethod("compressedMethod", new HashMap<>());
+		assertEquals(1, wireMockRule.findAll(postRequestedFor(urlEqualTo("/")).withRequestBody(containing("compressedMethod")).withHeader("Accept-Encoding", containing("gzip"))).size());
+		assertEquals(2, wireMockRule.findAll(postRequestedFor(urlEqualTo("/")).withRequestBody(containing("compressedMethod")).withHeader("Accept-Encoding", equalTo("identity"))).size());
+	}
+
+	/**
+	 * Test method for the source table
+	 * The routing dropdowns list the sources and None sorted by name
+	 *
+	 * @throws Exception Throw exceptions when cannot call request on the device
+	 */
+	@Test
+	void testRoutingSourcesSortedByName() throws Exception {
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) barcoE2Communicator.getMultipleStatistics().get(0);
+		AdvancedControllableProperty control = extendedStatistics.getControllableProperties().stream()
+				.filter(property -> property.getName().equals(BarcoE2ControllingMetric.AUX_DESTINATIONS.getName() + "#DSM")).findFirst().get();
+		String[] options = ((AdvancedControllableProperty.DropDown) control.getType()).getOptions();
+		Assertions.assertArrayEquals(new String[] { "CAM1-1", "CAM2-2", "KiPRO1-4", "KiPRO2-5", "Mac-6", "Main Screen_PGM-8", "None", "PC-3", "Site Screen_PGM-7" }, options);
+		assertEquals("CAM1-1", control.getValue());
+	}
 }